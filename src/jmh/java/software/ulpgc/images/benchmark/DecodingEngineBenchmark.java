@@ -0,0 +1,89 @@
+package software.ulpgc.images.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.images.decode.BatchDecoder;
+import software.ulpgc.images.decode.DecodeReport;
+import software.ulpgc.images.decode.DisplayFormat;
+import software.ulpgc.images.decode.ImageDeserializer;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the decoding engine with plain {@code ImageIO.read} in a sustained browsing scenario.
+ * <ul>
+ *   <li>{@code imageIoRead} looks up and creates a reader and a raster for every image.</li>
+ *   <li>{@code pooledReader} reuses pooled readers but allocates a raster per image.</li>
+ *   <li>{@code reusedDestination} also decodes into the same raster.</li>
+ *   <li>{@code batch} decodes a batch of images on several threads.</li>
+ * </ul>
+ * Run it with {@code -prof gc} to compare the allocation rates.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DecodingEngineBenchmark {
+    private static final int BATCH = 32;
+
+    @Param({"1000x800"})
+    public String size;
+    @Param({"4"})
+    public int threads;
+
+    private final ImageDeserializer deserializer = new ImageDeserializer(DisplayFormat.unconverted());
+    private final List<ByteBuffer> batch = new ArrayList<>();
+    private byte[] bytes;
+    private BufferedImage destination;
+    private BatchDecoder decoder;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] dimensions = size.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+        bytes = SyntheticImages.encode("jpg", width, height, 42);
+        for (int i = 0; i < BATCH; i++) batch.add(ByteBuffer.wrap(SyntheticImages.encode("jpg", width, height, i)));
+        destination = (BufferedImage) deserializer.deserialize(ByteBuffer.wrap(bytes));
+        decoder = new BatchDecoder(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        decoder.close();
+    }
+
+    @Benchmark
+    public Image imageIoRead() throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    @Benchmark
+    public Image pooledReader() throws IOException {
+        return deserializer.deserialize(ByteBuffer.wrap(bytes));
+    }
+
+    @Benchmark
+    public Image reusedDestination() throws IOException {
+        return deserializer.deserialize(ByteBuffer.wrap(bytes), 0, 0, destination);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public DecodeReport batch() throws InterruptedException {
+        return decoder.decodeAll(batch, 0, 0, (_, _) -> {});
+    }
+}
@@ -0,0 +1,63 @@
+package software.ulpgc.images.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.images.store.Blob;
+import software.ulpgc.images.store.ContentDeduplicator;
+import software.ulpgc.images.store.ImageStore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of recognising a duplicate 1000x800 JPEG payload.
+ * <ul>
+ *   <li>{@code sha256} hashes the payload with SHA-256, as the {@link ImageStore} addresses it.</li>
+ *   <li>{@code fastHash} hashes the payload with the 64-bit hash of the {@link ContentDeduplicator}.</li>
+ *   <li>{@code confirm} compares the payload with its stored copy, as a hash match is confirmed.</li>
+ *   <li>{@code find} looks the payload up in a deduplicator holding it, which hashes and confirms.</li>
+ * </ul>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DeduplicationBenchmark {
+    private byte[] payload;
+    private ByteBuffer stored;
+    private ContentDeduplicator deduplicator;
+
+    @Setup
+    public void setUp() throws IOException {
+        payload = SyntheticImages.encode("jpg", 1000, 800, 7);
+        stored = ByteBuffer.allocateDirect(payload.length).put(payload).flip().asReadOnlyBuffer();
+        deduplicator = new ContentDeduplicator();
+        deduplicator.add(new Blob("stored", stored));
+    }
+
+    @Benchmark
+    public String sha256() {
+        return ImageStore.hashOf(payload);
+    }
+
+    @Benchmark
+    public long fastHash() {
+        return ContentDeduplicator.hashOf(ByteBuffer.wrap(payload));
+    }
+
+    @Benchmark
+    public boolean confirm() {
+        return stored.equals(ByteBuffer.wrap(payload));
+    }
+
+    @Benchmark
+    public Blob find() {
+        return deduplicator.find(ByteBuffer.wrap(payload));
+    }
+}
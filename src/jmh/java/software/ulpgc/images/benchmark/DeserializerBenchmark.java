@@ -0,0 +1,49 @@
+package software.ulpgc.images.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.images.decode.ImageDeserializer;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ImageDeserializer} across image formats and sizes, both at full resolution
+ * and with a size hint matching a typical window.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DeserializerBenchmark {
+    @Param({"jpg", "png"})
+    public String format;
+    @Param({"640x480", "1000x800", "4000x3000"})
+    public String size;
+
+    private final ImageDeserializer deserializer = new ImageDeserializer();
+    private ByteBuffer bytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] dimensions = size.split("x");
+        bytes = ByteBuffer.wrap(SyntheticImages.encode(format, Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), 42));
+    }
+
+    @Benchmark
+    public Image deserialize() throws IOException {
+        return deserializer.deserialize(bytes);
+    }
+
+    @Benchmark
+    public Image deserializeForWindow() throws IOException {
+        return deserializer.deserialize(bytes, 1000, 700);
+    }
+}
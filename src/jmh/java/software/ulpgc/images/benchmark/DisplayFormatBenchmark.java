@@ -0,0 +1,79 @@
+package software.ulpgc.images.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.images.decode.DisplayFormat;
+import software.ulpgc.images.decode.ImageDeserializer;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of drawing a decoded image into a display-compatible frame, before and after
+ * converting it to the layout of the display.
+ * <ul>
+ *   <li>{@code blitDecoded} draws the image in the layout its codec produced.</li>
+ *   <li>{@code blitConverted} draws the image converted by a {@link DisplayFormat}.</li>
+ *   <li>{@code convert} measures the one-off conversion done after decoding.</li>
+ * </ul>
+ * Both blits scale the image into the frame with nearest-neighbour interpolation, as a frame is
+ * composed while its high-quality rendition is not ready yet.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DisplayFormatBenchmark {
+    @Param({"1920x1080"})
+    public String size;
+
+    private final DisplayFormat format = new DisplayFormat(null);
+    private Image decoded;
+    private Image converted;
+    private BufferedImage frame;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] dimensions = size.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+        byte[] bytes = SyntheticImages.encode("jpg", width, height, 42);
+        decoded = new ImageDeserializer(DisplayFormat.unconverted()).deserialize(ByteBuffer.wrap(bytes));
+        converted = format.convert(decoded);
+        frame = format.createCompatibleImage(width * 2 / 3, height * 2 / 3, Transparency.OPAQUE);
+    }
+
+    @Benchmark
+    public BufferedImage blitDecoded() {
+        return blit(decoded);
+    }
+
+    @Benchmark
+    public BufferedImage blitConverted() {
+        return blit(converted);
+    }
+
+    @Benchmark
+    public Image convert() {
+        return format.convert(decoded);
+    }
+
+    private BufferedImage blit(Image image) {
+        Graphics2D graphics = frame.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            graphics.drawImage(image, 0, 0, frame.getWidth(), frame.getHeight(), null);
+        } finally {
+            graphics.dispose();
+        }
+        return frame;
+    }
+}
@@ -0,0 +1,108 @@
+package software.ulpgc.images.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.swing.SwingImageDisplay;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the paint path of {@link SwingImageDisplay}, rendered headlessly into an offscreen
+ * {@link BufferedImage}. The {@code paint} benchmark measures the blit of the latest frame done on the
+ * event dispatch thread; the {@code cold} and {@code warm} benchmarks measure the composition of a
+ * frame on the render thread, with the renditions cleared before every frame and in the steady state.
+ * All of them start once the full-quality pass of the picture has been decoded.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DisplayPaintBenchmark {
+    @Param({"1000x800", "4000x3000"})
+    public String size;
+
+    private SwingImageDisplay display;
+    private BufferedImage surface;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        String[] dimensions = size.split("x");
+        BufferedImage image = SyntheticImages.create(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), 42);
+        display = new SwingImageDisplay();
+        display.setSize(1000, 700);
+        display.show(pictureOf(image));
+        surface = new BufferedImage(1000, 700, BufferedImage.TYPE_INT_RGB);
+        while (display.decoder().current() == null || !display.decoder().current().complete() || display.frames().frameCount() == 0) {
+            display.render();
+            Thread.sleep(10);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        display.renditions().close();
+        display.decoder().close();
+        display.frames().close();
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        Graphics2D graphics = surface.createGraphics();
+        try {
+            display.paint(graphics);
+        } finally {
+            graphics.dispose();
+        }
+        return surface;
+    }
+
+    @Benchmark
+    public long cold() {
+        display.renditions().clear();
+        return frame();
+    }
+
+    @Benchmark
+    public long warm() {
+        return frame();
+    }
+
+    private long frame() {
+        long frames = display.frames().frameCount();
+        display.render();
+        while (display.frames().frameCount() == frames) Thread.onSpinWait();
+        return frames;
+    }
+
+    private static Picture pictureOf(Image image) {
+        return new Picture() {
+            @Override
+            public String id() {
+                return "synthetic";
+            }
+
+            @Override
+            public Image content() {
+                return image;
+            }
+
+            @Override
+            public Picture next() {
+                return this;
+            }
+
+            @Override
+            public Picture previous() {
+                return this;
+            }
+        };
+    }
+}
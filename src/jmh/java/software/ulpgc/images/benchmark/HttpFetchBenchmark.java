@@ -0,0 +1,163 @@
+package software.ulpgc.images.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.images.fetch.HttpFetcher;
+import software.ulpgc.images.store.ImageStore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the {@link HttpFetcher} with the {@code URL.openStream()} downloads it replaced, against a
+ * local stand-in for the Picsum API. The stand-in redirects {@code /random} to one of a few images,
+ * as Picsum redirects to its CDN, and serves every image with an {@code ETag}.
+ * <ul>
+ *   <li>{@code openStream} downloads a random image with a new {@code URL.openStream()} call.</li>
+ *   <li>{@code httpClient} downloads a random image through the shared client.</li>
+ *   <li>{@code revalidated} downloads the same image again, which is answered with {@code 304} and
+ *   read back from a temporary {@link ImageStore}.</li>
+ * </ul>
+ * The {@code connections} counter reports the connections the stand-in accepted. Over loopback a
+ * connection costs next to nothing, so the stand-in delays every response by {@code roundTrip}
+ * milliseconds, and the first response on a new connection by two more, for the TCP and TLS handshakes.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class HttpFetchBenchmark {
+    private static final int IMAGES = 8;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Param({"0", "1"})
+    private int roundTrip;
+
+    private final Set<InetSocketAddress> clients = ConcurrentHashMap.newKeySet();
+    private final AtomicLong accepted = new AtomicLong();
+    private byte[][] images;
+    private HttpServer server;
+    private Path directory;
+    private ImageStore store;
+    private HttpFetcher fetcher;
+    private URI random;
+    private URI image;
+
+    @Setup
+    public void setUp() throws IOException {
+        images = new byte[IMAGES][];
+        for (int i = 0; i < IMAGES; i++) images[i] = SyntheticImages.encode("jpg", 1000, 800, i);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/random", this::redirect);
+        server.createContext("/image/", this::serve);
+        server.start();
+        random = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/random");
+        image = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/image/0");
+        directory = Files.createTempDirectory("http-store");
+        store = ImageStore.open(directory);
+        fetcher = new HttpFetcher(HttpFetcher.DEFAULT_ATTEMPTS, HttpFetcher.DEFAULT_BACKOFF, store);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        fetcher.close();
+        server.stop(0);
+        store.close();
+        TemporaryDirectories.delete(directory);
+    }
+
+    @Benchmark
+    public byte[] openStream(Connections connections) throws IOException {
+        try (InputStream stream = random.toURL().openStream()) {
+            return connections.count(stream.readAllBytes());
+        }
+    }
+
+    @Benchmark
+    public byte[] httpClient(Connections connections) {
+        return connections.count(fetcher.fetch(random, TIMEOUT).join());
+    }
+
+    @Benchmark
+    public byte[] revalidated(Connections connections) {
+        return connections.count(fetcher.fetch(image, TIMEOUT).join());
+    }
+
+    /**
+     * Counts the connections accepted by the stand-in during a benchmark iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Connections {
+        public long connections;
+        private HttpFetchBenchmark benchmark;
+
+        @Setup(Level.Iteration)
+        public void setUp(HttpFetchBenchmark benchmark) {
+            this.benchmark = benchmark;
+            connections = 0;
+            benchmark.accepted.set(0);
+        }
+
+        private byte[] count(byte[] content) {
+            connections = benchmark.accepted.get();
+            return content;
+        }
+    }
+
+    private void redirect(HttpExchange exchange) throws IOException {
+        accept(exchange);
+        exchange.getResponseHeaders().add("Location", "/image/" + ThreadLocalRandom.current().nextInt(IMAGES));
+        exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        accept(exchange);
+        String path = exchange.getRequestURI().getPath();
+        int index = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+        String etag = "\"" + index + "\"";
+        exchange.getResponseHeaders().add("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+        } else {
+            exchange.sendResponseHeaders(200, images[index].length);
+            exchange.getResponseBody().write(images[index]);
+        }
+        exchange.close();
+    }
+
+    private void accept(HttpExchange exchange) {
+        int roundTrips = 1;
+        if (clients.add(exchange.getRemoteAddress())) {
+            accepted.incrementAndGet();
+            roundTrips += 2;
+        }
+        if (roundTrip == 0) return;
+        try {
+            Thread.sleep((long) roundTrip * roundTrips);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package software.ulpgc.images.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import software.ulpgc.images.fetch.FetchStats;
+import software.ulpgc.images.fetch.HttpFetcher;
+import software.ulpgc.images.store.ImageStore;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks the behaviour of the {@link HttpFetcher} against a local stand-in server, the same kind of
+ * stand-in {@link HttpFetchBenchmark} measures it against. The checks cover the number of attempts of
+ * transient and permanent failures, the bounds of the jittered backoff, which redirects are remembered,
+ * and the revalidation of unchanged resources with {@code 304} responses.
+ * <p>
+ * Run it with {@code java -cp target/benchmarks.jar software.ulpgc.images.benchmark.HttpFetcherCheck};
+ * it prints every passed check and exits with a non-zero status at the first failed one.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class HttpFetcherCheck {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration BACKOFF = Duration.ofMillis(100);
+    private static final long SLACK = 60;
+    private static final byte[] IMAGE = "image".getBytes(StandardCharsets.US_ASCII);
+
+    private final Map<String, List<Long>> hits = new ConcurrentHashMap<>();
+    private final AtomicInteger unavailable = new AtomicInteger();
+    private final HttpServer server;
+    private final String base;
+
+    private HttpFetcherCheck() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/unavailable", exchange -> respond(exchange, unavailable.getAndDecrement() > 0 ? 503 : 200));
+        server.createContext("/missing", exchange -> respond(exchange, 404));
+        server.createContext("/moved", exchange -> redirect(exchange, 301, null));
+        server.createContext("/found", exchange -> redirect(exchange, 302, "no-cache"));
+        server.createContext("/aged", exchange -> redirect(exchange, 302, "max-age=60"));
+        server.createContext("/image", this::serve);
+        server.start();
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Runs every check.
+     *
+     * @param args the command line arguments, which are ignored
+     * @throws IOException if the stand-in server or the temporary store cannot be created
+     */
+    public static void main(String[] args) throws IOException {
+        HttpFetcherCheck check = new HttpFetcherCheck();
+        try {
+            check.retriesTransientFailures();
+            check.doesNotRetryPermanentFailures();
+            check.jittersTheBackoff();
+            check.remembersPermanentRedirects();
+            check.followsTemporaryRedirectsEveryTime();
+            check.remembersRedirectsWithMaxAge();
+            check.revalidatesUnchangedResources();
+            check.doesNotRevalidateWithoutStore();
+        } finally {
+            check.server.stop(0);
+        }
+    }
+
+    // Private helper methods for the checks and the stand-in server
+
+    private void retriesTransientFailures() {
+        try (HttpFetcher fetcher = new HttpFetcher(3, BACKOFF)) {
+            unavailable.set(2);
+            check(Arrays.equals(fetcher.fetch(uri("/unavailable"), TIMEOUT).join(), IMAGE), "two 503 responses are retried until the resource is served");
+            check(fetcher.stats().retries() == 2, "two retries are counted: " + fetcher.stats().retries());
+            unavailable.set(5);
+            hits.clear();
+            check(failureOf(fetcher, "/unavailable") == IOException.class, "a resource unavailable on every attempt fails with an IOException");
+            check(hitsOf("/unavailable") == 3, "a failing resource is requested 3 times: " + hitsOf("/unavailable"));
+        }
+    }
+
+    private void doesNotRetryPermanentFailures() {
+        try (HttpFetcher fetcher = new HttpFetcher(3, BACKOFF)) {
+            check(failureOf(fetcher, "/missing") != null, "a 404 response fails the request");
+            check(hitsOf("/missing") == 1 && fetcher.stats().retries() == 0, "a 404 response is not retried");
+        }
+    }
+
+    private void jittersTheBackoff() {
+        try (HttpFetcher fetcher = new HttpFetcher(4, BACKOFF)) {
+            unavailable.set(Integer.MAX_VALUE);
+            hits.clear();
+            failureOf(fetcher, "/unavailable");
+            List<Long> times = hits.get("/unavailable");
+            check(times.size() == 4, "4 attempts are made: " + times.size());
+            for (int retry = 1; retry < times.size(); retry++) {
+                long base = BACKOFF.toMillis() << (retry - 1);
+                long waited = (times.get(retry) - times.get(retry - 1)) / 1_000_000;
+                check(waited >= base / 2 && waited <= base * 3 / 2 + SLACK,
+                        "retry " + retry + " waits " + waited + " ms, within half and one and a half times " + base + " ms");
+            }
+        }
+    }
+
+    private void remembersPermanentRedirects() {
+        try (HttpFetcher fetcher = new HttpFetcher(1, BACKOFF)) {
+            hits.clear();
+            fetcher.fetch(uri("/moved"), TIMEOUT).join();
+            fetcher.fetch(uri("/moved"), TIMEOUT).join();
+            check(hitsOf("/moved") == 1 && fetcher.stats().redirectHits() == 1, "a 301 redirect is followed once and then remembered");
+        }
+    }
+
+    private void followsTemporaryRedirectsEveryTime() {
+        try (HttpFetcher fetcher = new HttpFetcher(1, BACKOFF)) {
+            hits.clear();
+            fetcher.fetch(uri("/found"), TIMEOUT).join();
+            fetcher.fetch(uri("/found"), TIMEOUT).join();
+            check(hitsOf("/found") == 2 && fetcher.stats().redirectHits() == 0, "a 302 redirect without a lifetime is followed every time");
+        }
+    }
+
+    private void remembersRedirectsWithMaxAge() {
+        try (HttpFetcher fetcher = new HttpFetcher(1, BACKOFF)) {
+            hits.clear();
+            fetcher.fetch(uri("/aged"), TIMEOUT).join();
+            fetcher.fetch(uri("/aged"), TIMEOUT).join();
+            check(hitsOf("/aged") == 1 && fetcher.stats().redirectHits() == 1, "a 302 redirect with a max-age is remembered");
+        }
+    }
+
+    private void revalidatesUnchangedResources() throws IOException {
+        Path directory = Files.createTempDirectory("http-check");
+        try (ImageStore store = ImageStore.open(directory); HttpFetcher fetcher = new HttpFetcher(1, BACKOFF, store)) {
+            byte[] first = fetcher.fetch(uri("/image"), TIMEOUT).join();
+            byte[] second = fetcher.fetch(uri("/image"), TIMEOUT).join();
+            FetchStats stats = fetcher.stats();
+            check(stats.notModified() == 1, "the second request is answered with 304: " + stats.notModified() + " times");
+            check(Arrays.equals(first, IMAGE) && Arrays.equals(second, IMAGE), "the revalidated body is read back from the store");
+        } finally {
+            TemporaryDirectories.delete(directory);
+        }
+    }
+
+    private void doesNotRevalidateWithoutStore() {
+        try (HttpFetcher fetcher = new HttpFetcher(1, BACKOFF)) {
+            fetcher.fetch(uri("/image"), TIMEOUT).join();
+            check(Arrays.equals(fetcher.fetch(uri("/image"), TIMEOUT).join(), IMAGE) && fetcher.stats().notModified() == 0,
+                    "a fetcher without a store downloads the whole body again");
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(base + path);
+    }
+
+    private int hitsOf(String path) {
+        return hits.getOrDefault(path, List.of()).size();
+    }
+
+    private Class<?> failureOf(HttpFetcher fetcher, String path) {
+        try {
+            fetcher.fetch(uri(path), TIMEOUT).join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause() instanceof IOException ? IOException.class : e.getCause().getClass();
+        }
+    }
+
+    private void hit(HttpExchange exchange) {
+        hits.computeIfAbsent(exchange.getRequestURI().getPath(), _ -> new CopyOnWriteArrayList<>()).add(System.nanoTime());
+    }
+
+    private void respond(HttpExchange exchange, int status) throws IOException {
+        hit(exchange);
+        send(exchange, status);
+    }
+
+    private void send(HttpExchange exchange, int status) throws IOException {
+        if (status == 200) {
+            exchange.sendResponseHeaders(200, IMAGE.length);
+            exchange.getResponseBody().write(IMAGE);
+        } else {
+            exchange.sendResponseHeaders(status, -1);
+        }
+        exchange.close();
+    }
+
+    private void redirect(HttpExchange exchange, int status, String cacheControl) throws IOException {
+        hit(exchange);
+        exchange.getResponseHeaders().add("Location", "/image");
+        if (cacheControl != null) exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        hit(exchange);
+        exchange.getResponseHeaders().add("ETag", "\"image\"");
+        send(exchange, "\"image\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match")) ? 304 : 200);
+    }
+
+    private static void check(boolean condition, String description) {
+        if (!condition) throw new AssertionError("Failed: " + description);
+        System.out.println("Passed: " + description);
+    }
+}
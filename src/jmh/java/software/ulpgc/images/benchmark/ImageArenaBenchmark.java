@@ -0,0 +1,56 @@
+package software.ulpgc.images.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.images.decode.ImageDeserializer;
+import software.ulpgc.images.store.ImageArena;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding an image from a heap buffer with decoding it in place from an off-heap
+ * {@link ImageArena}. Run it with {@code -prof gc} to check that reading from the arena allocates
+ * no copy of the compressed bytes.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ImageArenaBenchmark {
+    @Param({"1000x800"})
+    public String size;
+
+    private final ImageDeserializer deserializer = new ImageDeserializer();
+    private final ImageArena arena = new ImageArena();
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] dimensions = size.split("x");
+        bytes = SyntheticImages.encode("jpg", Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), 42);
+        arena.add(bytes);
+    }
+
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+
+    @Benchmark
+    public Image heap() throws IOException {
+        return deserializer.deserialize(ByteBuffer.wrap(bytes), 200, 160);
+    }
+
+    @Benchmark
+    public Image arena() throws IOException {
+        return deserializer.deserialize(arena.get(0), 200, 160);
+    }
+}
@@ -0,0 +1,72 @@
+package software.ulpgc.images.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.cache.DecodedImageCache;
+import software.ulpgc.images.picsum.PicsumImageGenerator;
+import software.ulpgc.images.picsum.PicsumImageLoader;
+import software.ulpgc.images.store.ImageStore;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures next and previous navigation in {@link PicsumImageLoader}, with and without fetching the
+ * content of the reached picture. The loader is backed by an {@link ImageStore} prefilled with
+ * synthetic images, so no network access is needed.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class LoaderNavigationBenchmark {
+    private Path directory;
+    private ImageStore store;
+    private PicsumImageLoader loader;
+    private Picture current;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("image-store");
+        store = ImageStore.open(directory);
+        for (int i = 0; i < PicsumImageGenerator.COUNT; i++) store.put(SyntheticImages.encode("jpg", 1000, 800, i));
+        loader = new PicsumImageLoader(store, new DecodedImageCache());
+        current = loader.load();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        TemporaryDirectories.delete(directory);
+    }
+
+    @Benchmark
+    public Picture next() {
+        return current = current.next();
+    }
+
+    @Benchmark
+    public Picture previous() {
+        return current = current.previous();
+    }
+
+    @Benchmark
+    public Image nextContent() {
+        return (current = current.next()).content();
+    }
+
+    @Benchmark
+    public Image nextContentUncached() {
+        loader.cache().clear();
+        return (current = current.next()).content();
+    }
+}
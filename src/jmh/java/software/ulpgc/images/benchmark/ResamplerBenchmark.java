@@ -0,0 +1,91 @@
+package software.ulpgc.images.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.images.architecture.model.ViewPort;
+import software.ulpgc.images.decode.DisplayFormat;
+import software.ulpgc.images.resample.Resampler;
+import software.ulpgc.images.resample.ResamplingFilter;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link Resampler} with the scaling built into AWT on a large reduction.
+ * <ul>
+ *   <li>{@code drawImageBilinear} and {@code drawImageBicubic} scale with {@code Graphics.drawImage}.</li>
+ *   <li>{@code scaledInstance} scales with {@code Image.getScaledInstance} and area averaging.</li>
+ *   <li>{@code vector} and {@code scalar} resample with each filter, with and without the vector API.</li>
+ * </ul>
+ * The source is converted to packed integer pixels first, as decoded images are. The vector API needs {@code --add-modules jdk.incubator.vector}, which the fork passes.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "--add-modules", "jdk.incubator.vector"})
+public class ResamplerBenchmark {
+    @Param({"1000x800"})
+    public String size;
+    @Param({"200x160"})
+    public String target;
+    @Param({"BOX", "BILINEAR", "LANCZOS3"})
+    public ResamplingFilter filter;
+
+    private BufferedImage source;
+    private ViewPort viewPort;
+    private Resampler vector;
+    private Resampler scalar;
+
+    @Setup
+    public void setUp() {
+        String[] dimensions = size.split("x");
+        String[] targetDimensions = target.split("x");
+        source = (BufferedImage) new DisplayFormat(null).convert(SyntheticImages.create(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), 42));
+        viewPort = ViewPort.ofSize(Integer.parseInt(targetDimensions[0]), Integer.parseInt(targetDimensions[1])).fit(source.getWidth(), source.getHeight());
+        vector = new Resampler(filter, Resampler.isVectorAvailable());
+        scalar = new Resampler(filter, false);
+    }
+
+    @Benchmark
+    public BufferedImage drawImageBilinear() {
+        return draw(source, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    }
+
+    @Benchmark
+    public BufferedImage drawImageBicubic() {
+        return draw(source, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+    @Benchmark
+    public BufferedImage scaledInstance() {
+        return draw(source.getScaledInstance(viewPort.width(), viewPort.height(), Image.SCALE_AREA_AVERAGING), RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+    }
+
+    @Benchmark
+    public BufferedImage vector() {
+        return vector.resample(source, viewPort);
+    }
+
+    @Benchmark
+    public BufferedImage scalar() {
+        return scalar.resample(source, viewPort);
+    }
+
+    private BufferedImage draw(Image image, Object interpolation) {
+        BufferedImage result = new BufferedImage(viewPort.width(), viewPort.height(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            graphics.drawImage(image, 0, 0, viewPort.width(), viewPort.height(), null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package software.ulpgc.images.benchmark;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Generates synthetic images locally, so that the benchmarks run offline and on reproducible inputs.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public final class SyntheticImages {
+    private SyntheticImages() {
+    }
+
+    /**
+     * Creates an image with a gradient background and random shapes, which compresses like a photo
+     * rather than like a flat colour.
+     *
+     * @param width  the width of the image
+     * @param height the height of the image
+     * @param seed   the seed of the random shapes
+     * @return a new {@link BufferedImage} of type {@link BufferedImage#TYPE_3BYTE_BGR}
+     */
+    public static BufferedImage create(int width, int height, long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, new Color(random.nextInt()), width, height, new Color(random.nextInt())));
+        graphics.fillRect(0, 0, width, height);
+        for (int i = 0; i < 200; i++) {
+            graphics.setColor(new Color(random.nextInt(), true));
+            graphics.fillOval(random.nextInt(width), random.nextInt(height), random.nextInt(width / 4 + 1), random.nextInt(height / 4 + 1));
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    /**
+     * Creates a synthetic image and encodes it in the given format.
+     *
+     * @param format the informal name of the format, such as {@code "jpg"} or {@code "png"}
+     * @param width  the width of the image
+     * @param height the height of the image
+     * @param seed   the seed of the random shapes
+     * @return the encoded image bytes
+     * @throws IOException if the image cannot be encoded
+     */
+    public static byte[] encode(String format, int width, int height, long seed) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (!ImageIO.write(create(width, height, seed), format, output))
+            throw new IOException("No image writer for format " + format);
+        return output.toByteArray();
+    }
+}
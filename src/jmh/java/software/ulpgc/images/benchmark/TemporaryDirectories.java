@@ -0,0 +1,35 @@
+package software.ulpgc.images.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Removes the temporary directories the benchmarks create for their stores and caches.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public final class TemporaryDirectories {
+    private TemporaryDirectories() {
+    }
+
+    /**
+     * Deletes the given directory and everything in it. A directory that does not exist is ignored.
+     *
+     * @param directory the directory to delete
+     * @throws IOException if a file cannot be deleted
+     */
+    public static void delete(Path directory) throws IOException {
+        if (!Files.exists(directory)) return;
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            paths = walk.sorted(Comparator.reverseOrder()).toList();
+        }
+        for (Path path : paths) Files.deleteIfExists(path);
+    }
+}
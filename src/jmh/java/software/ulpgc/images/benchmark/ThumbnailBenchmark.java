@@ -0,0 +1,111 @@
+package software.ulpgc.images.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.ulpgc.images.architecture.io.ImageLoader;
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.architecture.model.ViewPort;
+import software.ulpgc.images.cache.DecodedImageCache;
+import software.ulpgc.images.filesystem.FileSystemImageLoader;
+import software.ulpgc.images.thumbnail.ThumbnailCache;
+import software.ulpgc.images.thumbnail.ThumbnailGenerator;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to produce the thumbnails of a directory of 1000x800 JPEG images.
+ * <ul>
+ *   <li>{@code fullDecode} decodes every image at full size and scales it down with {@code drawImage}.</li>
+ *   <li>{@code generate} runs the fork-join {@link ThumbnailGenerator} with an empty {@link ThumbnailCache}.</li>
+ *   <li>{@code reopen} opens a {@link ThumbnailCache} filled in a previous session and reads every thumbnail from it.</li>
+ * </ul>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ThumbnailBenchmark {
+    private static final int IMAGES = 24;
+
+    private Path directory;
+    private List<Picture> pictures;
+    private Path warm;
+    private Path cold;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("thumbnails");
+        for (int i = 0; i < IMAGES; i++) Files.write(directory.resolve("%03d.jpg".formatted(i)), SyntheticImages.encode("jpg", 1000, 800, i));
+        FileSystemImageLoader loader = new FileSystemImageLoader(directory, new DecodedImageCache(0), ForkJoinPool.commonPool());
+        loader.scan().join();
+        pictures = picturesOf(loader);
+        warm = directory.resolve("warm.cache");
+        try (ThumbnailCache cache = ThumbnailCache.open(warm)) {
+            new ThumbnailGenerator(cache).generate(pictures, () -> { }).join();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clearColdCache() throws IOException {
+        cold = directory.resolve("cold.cache");
+        Files.deleteIfExists(cold);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        TemporaryDirectories.delete(directory);
+    }
+
+    @Benchmark
+    public int fullDecode() {
+        int pixels = 0;
+        for (Picture picture : pictures) {
+            Image content = picture.content();
+            ViewPort fit = ViewPort.ofSize(ThumbnailGenerator.DEFAULT_WIDTH, ThumbnailGenerator.DEFAULT_HEIGHT).fit(content.getWidth(null), content.getHeight(null));
+            BufferedImage thumbnail = new BufferedImage(fit.width(), fit.height(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = thumbnail.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(content, 0, 0, fit.width(), fit.height(), null);
+            graphics.dispose();
+            pixels += thumbnail.getWidth() * thumbnail.getHeight();
+        }
+        return pixels;
+    }
+
+    @Benchmark
+    public long generate() throws IOException {
+        try (ThumbnailCache cache = ThumbnailCache.open(cold)) {
+            ThumbnailGenerator generator = new ThumbnailGenerator(cache);
+            generator.generate(pictures, () -> { }).join();
+            return generator.generatedCount();
+        }
+    }
+
+    @Benchmark
+    public long reopen() throws IOException {
+        try (ThumbnailCache cache = ThumbnailCache.open(warm)) {
+            ThumbnailGenerator generator = new ThumbnailGenerator(cache);
+            generator.generate(pictures, () -> { }).join();
+            return generator.loadedCount();
+        }
+    }
+
+    private static List<Picture> picturesOf(ImageLoader loader) {
+        List<Picture> pictures = new ArrayList<>();
+        for (int i = 0; i < loader.count(); i++) pictures.add(loader.load(i));
+        return pictures;
+    }
+}
@@ -0,0 +1,45 @@
+package software.ulpgc.images.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import software.ulpgc.images.architecture.model.ViewPort;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link ViewPort#fit(int, int)} over content sizes that exercise the
+ * centred, fit-to-width and fit-to-height branches.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewPortBenchmark {
+    private static final int SIZES = 1024;
+
+    private final ViewPort viewPort = ViewPort.ofSize(1000, 700);
+    private final int[] widths = new int[SIZES];
+    private final int[] heights = new int[SIZES];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZES; i++) {
+            widths[i] = 1 + random.nextInt(4000);
+            heights[i] = 1 + random.nextInt(4000);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZES)
+    public void fit(Blackhole blackhole) {
+        for (int i = 0; i < SIZES; i++) blackhole.consume(viewPort.fit(widths[i], heights[i]));
+    }
+}
@@ -0,0 +1,121 @@
+package software.ulpgc.images;
+
+import software.ulpgc.images.architecture.io.ImageLoader;
+import software.ulpgc.images.cache.DecodedImageCache;
+import software.ulpgc.images.filesystem.FileSystemImageLoader;
+import software.ulpgc.images.picsum.PicsumImageLoader;
+import software.ulpgc.images.pipeline.PipelineReport;
+import software.ulpgc.images.pipeline.RenditionPipeline;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders the pictures of a loader to disk at a fixed display size with a {@link RenditionPipeline},
+ * without opening a window.
+ * <p>
+ * Options are given as {@code --name value} pairs: {@code --loader} selects the loader as the
+ * {@code imageviewer.loader} property does for the viewer, {@code --directory} the directory read by
+ * the directory loader, {@code --output} the directory the renditions are written to, {@code --size}
+ * the display size as {@code WIDTHxHEIGHT}, {@code --count} the maximum number of pictures,
+ * {@code --threads} the threads of the decode and resample stages, {@code --capacity} the items each
+ * queue between two stages holds, and {@code --format} the format of
+ * the renditions. The directory loader, which is the default, requires {@code --directory}. An
+ * unknown option, an option without a value or an invalid value prints the usage and exits with
+ * status {@code 2}.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class BatchMain {
+    private static final Set<String> OPTIONS = Set.of("loader", "directory", "output", "size", "count", "threads", "capacity", "format");
+    private static final Set<String> LOADERS = Set.of("store", "stream", "directory", "memory");
+    private static final String USAGE = """
+            Usage: BatchMain [--name value]...
+              --loader    store | stream | directory | memory (default: directory)
+              --directory the directory read by the directory loader (required for it)
+              --output    the directory the renditions are written to (default: renditions)
+              --size      the display size as WIDTHxHEIGHT (default: 1920x1080)
+              --count     the maximum number of pictures (default: all)
+              --threads   the threads of the decode and resample stages (default: one per processor)
+              --capacity  the items each queue between two stages holds (default: 4)
+              --format    the format of the renditions (default: jpg)""";
+
+    /**
+     * Runs the pipeline with the given options and prints its report.
+     *
+     * @param args the command-line options
+     * @throws IOException if the loader cannot be created or the output directory cannot be created
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options;
+        String loaderName;
+        int width;
+        int height;
+        int threads;
+        int capacity;
+        int count;
+        try {
+            options = options(args);
+            loaderName = options.getOrDefault("loader", "directory");
+            if (!LOADERS.contains(loaderName)) throw new IllegalArgumentException("Unknown loader: " + loaderName);
+            if (loaderName.equals("directory") && !options.containsKey("directory"))
+                throw new IllegalArgumentException("The directory loader requires --directory");
+            String[] size = options.getOrDefault("size", "1920x1080").split("x", -1);
+            if (size.length != 2) throw new IllegalArgumentException("Invalid --size, expected WIDTHxHEIGHT: " + options.get("size"));
+            width = positive("size", size[0]);
+            height = positive("size", size[1]);
+            threads = positive("threads", options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+            capacity = positive("capacity", options.getOrDefault("capacity", "4"));
+            count = positive("count", options.getOrDefault("count", String.valueOf(Integer.MAX_VALUE)));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options.containsKey("directory")) System.setProperty("imageviewer.directory", options.get("directory"));
+        RenditionPipeline pipeline = new RenditionPipeline(
+                Path.of(options.getOrDefault("output", "renditions")),
+                width,
+                height,
+                options.getOrDefault("format", "jpg"),
+                threads,
+                capacity
+        );
+        ImageLoader loader = Main.createLoader(loaderName, new DecodedImageCache(0));
+        if (loader instanceof FileSystemImageLoader directory) directory.scan().join();
+        if (loader instanceof PicsumImageLoader picsum) picsum.downloads().join();
+        PipelineReport report = pipeline.run(loader, count);
+        System.out.println(report);
+        if (loader instanceof PicsumImageLoader picsum) System.out.println("Deduplication: " + picsum.deduplicator().stats());
+    }
+
+    // Private helper methods for parsing the options
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--")) throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            String name = args[i].substring(2);
+            if (!OPTIONS.contains(name)) throw new IllegalArgumentException("Unknown option: " + args[i]);
+            if (i + 1 == args.length) throw new IllegalArgumentException("Missing value for " + args[i]);
+            options.put(name, args[i + 1]);
+        }
+        return options;
+    }
+
+    private static int positive(String option, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) return parsed;
+        } catch (NumberFormatException _) {
+        }
+        throw new IllegalArgumentException("Invalid --" + option + ", expected a positive integer: " + value);
+    }
+}
@@ -1,19 +1,120 @@
 package software.ulpgc.images;
 
 import software.ulpgc.images.architecture.io.ImageLoader;
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.cache.DecodedImageCache;
+import software.ulpgc.images.cache.MemoryGovernor;
+import software.ulpgc.images.cache.MemoryTier;
+import software.ulpgc.images.cache.PicturePrefetcher;
+import software.ulpgc.images.filesystem.FileSystemImageLoader;
+import software.ulpgc.images.fetch.ConcurrentFetcher;
+import software.ulpgc.images.metrics.Metrics;
+import software.ulpgc.images.metrics.StartupTimeline;
+import software.ulpgc.images.picsum.PicsumImageGenerator;
 import software.ulpgc.images.picsum.PicsumImagePresenter;
 import software.ulpgc.images.picsum.PicsumImageLoader;
+import software.ulpgc.images.picsum.PicsumStreamingImageLoader;
+import software.ulpgc.images.slideshow.SlideshowScheduler;
+import software.ulpgc.images.store.ContentDeduplicator;
+import software.ulpgc.images.store.ImageStore;
+import software.ulpgc.images.swing.FilmstripPanel;
+import software.ulpgc.images.swing.PlaceholderPicture;
+import software.ulpgc.images.swing.RenditionCache;
 import software.ulpgc.images.swing.SwingImageDisplay;
 import software.ulpgc.images.swing.SwingMainFrame;
+import software.ulpgc.images.swing.TileRenderer;
+import software.ulpgc.images.thumbnail.ThumbnailCache;
+import software.ulpgc.images.thumbnail.ThumbnailGenerator;
+
+import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
 
 public class Main {
-    public static void main() {
+    private static final System.Logger LOGGER = System.getLogger(Main.class.getName());
 
-        SwingImageDisplay imageDisplay = new SwingImageDisplay();
+    public static void main() {
+        StartupTimeline.global().mark(StartupTimeline.MAIN);
+        MemoryGovernor governor = new MemoryGovernor(Long.getLong("imageviewer.memory.budget", MemoryGovernor.defaultBudget() >> 20) << 20);
+        SwingImageDisplay imageDisplay = new SwingImageDisplay(new RenditionCache(governor.share(0.15)), new TileRenderer(governor.share(0.25), 2));
         SwingMainFrame mainFrame = new SwingMainFrame(imageDisplay);
-        PicsumImagePresenter presenter = new PicsumImagePresenter(imageDisplay);
-        ImageLoader loader = new PicsumImageLoader();
-        presenter.showWith(loader);
+        PicsumImagePresenter presenter = new PicsumImagePresenter(imageDisplay, new PicturePrefetcher(), null,
+                Duration.ofMillis(Long.getLong("imageviewer.slideshow.interval", SlideshowScheduler.DEFAULT_INTERVAL.toMillis())));
+        DecodedImageCache cache = new DecodedImageCache(governor.share(0.6));
+        governor.register("prefetch", presenter.prefetcher())
+                .register("renditions", imageDisplay.renditions().tier())
+                .register("tiles", imageDisplay.tiles().tier())
+                .register("decoded", MemoryTier.of(cache))
+                .start();
+        registerMetrics(cache, imageDisplay, presenter, governor);
+        imageDisplay.show(new PlaceholderPicture("Loading images…"));
         mainFrame.setVisible(true);
+        StartupTimeline.global().mark(StartupTimeline.WINDOW_SHOWN);
+        loadInBackground(System.getProperty("imageviewer.loader", "store"), cache, presenter, mainFrame, imageDisplay);
+    }
+
+    private static void loadInBackground(String mode, DecodedImageCache cache, PicsumImagePresenter presenter, SwingMainFrame mainFrame, SwingImageDisplay imageDisplay) {
+        Thread.ofPlatform().daemon().name("startup-loader").start(() -> {
+            FilmstripPanel filmstrip = createFilmstrip();
+            if (filmstrip != null) SwingUtilities.invokeLater(() -> {
+                mainFrame.showFilmstrip(filmstrip);
+                presenter.setFilmstrip(filmstrip);
+            });
+            try {
+                ImageLoader loader = createLoader(mode, cache);
+                if (loader.load() == Picture.None) SwingUtilities.invokeLater(() -> imageDisplay.show(new PlaceholderPicture("No images found")));
+                else SwingUtilities.invokeLater(() -> {
+                    presenter.showWith(loader);
+                    if (Boolean.getBoolean("imageviewer.slideshow")) presenter.toggleSlideshow();
+                });
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(System.Logger.Level.ERROR, "Could not load the images", e);
+                SwingUtilities.invokeLater(() -> imageDisplay.show(new PlaceholderPicture("Could not load the images")));
+            }
+        });
+    }
+
+    private static FilmstripPanel createFilmstrip() {
+        try {
+            return new FilmstripPanel(new ThumbnailGenerator(ThumbnailCache.open(ThumbnailCache.defaultFile())));
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Could not open the thumbnail cache, the filmstrip is disabled", e);
+            return null;
+        }
+    }
+
+    static ImageLoader createLoader(String mode, DecodedImageCache cache) throws IOException {
+        return switch (mode) {
+            case "stream" -> new PicsumStreamingImageLoader(new ConcurrentFetcher(), cache, PicsumStreamingImageLoader.DEFAULT_AHEAD,
+                    PicsumStreamingImageLoader.capacityFor(PicsumStreamingImageLoader.DEFAULT_AHEAD, PicturePrefetcher.DEFAULT_MAXIMUM_WINDOW));
+            case "directory" -> new FileSystemImageLoader(Path.of(System.getProperty("imageviewer.directory", System.getProperty("user.home"))), cache, ForkJoinPool.commonPool());
+            case "memory" -> new PicsumImageLoader(cache, createDeduplicator());
+            default -> new PicsumImageLoader(ImageStore.open(ImageStore.defaultDirectory()), cache, createDeduplicator());
+        };
+    }
+
+    private static ContentDeduplicator createDeduplicator() {
+        ContentDeduplicator deduplicator = new ContentDeduplicator(Integer.getInteger("imageviewer.dedup.refetches", PicsumImageGenerator.COUNT));
+        Metrics metrics = Metrics.global();
+        metrics.registerRatio("dedup.ratio", () -> deduplicator.stats().ratio());
+        metrics.registerGauge("dedup.bytesSaved", () -> deduplicator.stats().bytesSaved());
+        metrics.registerGauge("dedup.decodesSaved", () -> deduplicator.stats().decodesSaved());
+        return deduplicator;
+    }
+
+    private static void registerMetrics(DecodedImageCache cache, SwingImageDisplay imageDisplay, PicsumImagePresenter presenter, MemoryGovernor governor) {
+        Metrics metrics = Metrics.global();
+        metrics.registerRatio("memory.occupancy", governor::occupancy);
+        metrics.registerGauge("memory.shedTiers", governor::shedCount);
+        metrics.registerRatio("decoded.hitRatio", () -> cache.stats().hitRatio());
+        metrics.registerRatio("renditions.hitRatio", () -> imageDisplay.renditions().stats().hitRatio());
+        metrics.registerRatio("prefetch.readyRatio", () -> presenter.prefetcher().stats().readyRatio());
+        metrics.registerRatio("slideshow.missRatio", () -> presenter.slideshow().stats().missRatio());
+        metrics.watchEventDispatchThread(Duration.ofMillis(250), Duration.ofMillis(100));
+        metrics.registerMBean();
+        long period = Long.getLong("imageviewer.metrics.log", 0);
+        if (period > 0) metrics.startLogging(Duration.ofSeconds(period));
     }
-}
\ No newline at end of file
+}
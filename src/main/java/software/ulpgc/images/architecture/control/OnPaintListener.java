@@ -0,0 +1,27 @@
+package software.ulpgc.images.architecture.control;
+
+import software.ulpgc.images.architecture.model.Picture;
+
+/**
+ * Represents a listener notified when a picture is painted for the first time after it is shown,
+ * which is when the viewer actually sees it.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public interface OnPaintListener {
+    /**
+     * A default implementation of {@link OnPaintListener} that performs no action.
+     * This can be used as a placeholder to avoid null checks.
+     */
+    OnPaintListener None = (_, _) -> { };
+
+    /**
+     * Method to be called when a picture is painted for the first time after it is shown.
+     *
+     * @param picture   the painted picture
+     * @param paintedAt the {@link System#nanoTime()} reading at the paint
+     */
+    void painted(Picture picture, long paintedAt);
+}
@@ -0,0 +1,24 @@
+package software.ulpgc.images.architecture.control;
+
+/**
+ * Represents a listener for handling the selection of an item by its position, such as a thumbnail
+ * of a collection of images.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public interface OnSelectListener {
+    /**
+     * A default implementation of {@link OnSelectListener} that performs no action.
+     * This can be used as a placeholder to avoid null checks.
+     */
+    OnSelectListener None = _ -> { };
+
+    /**
+     * Method to be called when an item is selected.
+     *
+     * @param index the position of the selected item
+     */
+    void selected(int index);
+}
@@ -22,4 +22,20 @@ public interface Deserializer<Source, Target> {
      * @throws IOException if an I/O error occurs during deserialization
      */
     Target deserialize(Source input) throws IOException;
+
+    /**
+     * Deserializes the given input into an object of type {@code Target} intended to be displayed
+     * at the given size. Implementations may produce a reduced-resolution result that still covers
+     * the requested size, which is cheaper than a full deserialization. The default implementation
+     * ignores the size hint and delegates to {@link #deserialize(Object)}.
+     *
+     * @param input  the source data to be deserialized
+     * @param width  the width the result is intended to be displayed at
+     * @param height the height the result is intended to be displayed at
+     * @return the deserialized object of type {@code Target}
+     * @throws IOException if an I/O error occurs during deserialization
+     */
+    default Target deserialize(Source input, int width, int height) throws IOException {
+        return deserialize(input);
+    }
 }
@@ -26,4 +26,28 @@ public interface ImageLoader {
      * @return the loaded image as a {@link Picture}.
      */
     Picture load();
+
+    /**
+     * Loads the image at the given position of the sequence, without decoding the images before it.
+     * The default implementation follows {@link Picture#next()} from {@link #load()}, which does not
+     * decode any image; implementations should address the position directly when possible.
+     *
+     * @param index the position of the image, starting at {@code 0}
+     * @return the {@link Picture} at the position, or {@link Picture#None} if the sequence is shorter.
+     */
+    default Picture load(int index) {
+        Picture picture = load();
+        for (int i = 0; i < index && picture != Picture.None; i++) picture = picture.next();
+        return picture;
+    }
+
+    /**
+     * Returns the number of images currently available in the sequence. The number may grow while
+     * the loader discovers or downloads more images. The default implementation does not know it.
+     *
+     * @return the number of images, or {@code -1} if the sequence is unbounded or its length unknown.
+     */
+    default int count() {
+        return -1;
+    }
 }
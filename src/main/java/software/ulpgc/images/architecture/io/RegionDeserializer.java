@@ -0,0 +1,51 @@
+package software.ulpgc.images.architecture.io;
+
+import java.awt.*;
+import java.io.IOException;
+
+/**
+ * A {@link Deserializer} of images that can also decode a rectangular region of the source at a
+ * reduced resolution, decode a fast low-resolution preview, and read the dimensions of the source
+ * without decoding it.
+ *
+ * @param <Source> the type of the input data to be deserialized
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public interface RegionDeserializer<Source> extends Deserializer<Source, Image> {
+
+    /**
+     * Reads the dimensions of the image held by the given input without decoding its pixels.
+     *
+     * @param input the source data of the image
+     * @return the dimensions of the image
+     * @throws IOException if an I/O error occurs while reading the image header
+     */
+    Dimension dimensionsOf(Source input) throws IOException;
+
+    /**
+     * Deserializes a rectangular region of the image held by the given input, keeping one pixel
+     * out of every {@code subsampling} pixels in each direction.
+     *
+     * @param input       the source data of the image
+     * @param region      the region to decode, in source pixels
+     * @param subsampling the subsampling factor, at least {@code 1}
+     * @return the decoded region
+     * @throws IOException if an I/O error occurs during deserialization
+     */
+    Image deserialize(Source input, Rectangle region, int subsampling) throws IOException;
+
+    /**
+     * Deserializes a low-resolution preview of the image held by the given input, trading quality for
+     * speed so that it can be shown while the image is decoded at full quality.
+     *
+     * @param input  the source data of the image
+     * @param width  the width the image is intended to be displayed at
+     * @param height the height the image is intended to be displayed at
+     * @return the decoded preview
+     * @throws IOException if an I/O error occurs during deserialization
+     */
+    Image preview(Source input, int width, int height) throws IOException;
+}
@@ -1,6 +1,7 @@
 package software.ulpgc.images.architecture.model;
 
 import java.awt.*;
+import java.awt.image.BufferedImage;
 
 /**
  * Represents a navigable picture in a sequence. Provides methods to access the content of the picture,
@@ -12,12 +13,86 @@ import java.awt.*;
  * @since       1.0
  */
 public interface Picture {
+    /**
+     * Returns a stable identifier for the picture. Two {@link Picture} instances that represent
+     * the same image share the same identifier, which makes it suitable as a cache key.
+     *
+     * @return the identifier of the picture, or an empty string if it has no identity.
+     */
+    String id();
     /**
      * Returns the content of the picture as an {@link Image}.
      *
      * @return the image content of the picture, or {@code null} if no content exists.
      */
     Image content();
+    /**
+     * Returns the content of the picture as an {@link Image} intended to be displayed at the given size.
+     * Implementations may return a reduced-resolution image that still covers the requested size.
+     * The default implementation returns {@link #content()}.
+     *
+     * @param width  the width the image is intended to be displayed at
+     * @param height the height the image is intended to be displayed at
+     * @return the image content of the picture, or {@code null} if no content exists.
+     */
+    default Image content(int width, int height) {
+        return content();
+    }
+    /**
+     * Returns a low-resolution preview of the picture that is much faster to produce than
+     * {@link #content(int, int)}, to be shown while the picture is decoded at full quality.
+     * Implementations may return the full-quality content when it is already available.
+     * The default implementation has no preview and returns {@code null}.
+     *
+     * @param width  the width the image is intended to be displayed at
+     * @param height the height the image is intended to be displayed at
+     * @return the preview of the picture, or {@code null} if it has no preview cheaper than its content.
+     */
+    default Image preview(int width, int height) {
+        return null;
+    }
+    /**
+     * Checks whether {@link #content(int, int)} would return an image already decoded in memory,
+     * without decoding it. A width or height that is not positive stands for {@link #content()}.
+     * The default implementation keeps nothing in memory and returns {@code false}.
+     *
+     * @param width  the width the image is intended to be displayed at
+     * @param height the height the image is intended to be displayed at
+     * @return {@code true} if the content for that size is resident
+     */
+    default boolean isDecoded(int width, int height) {
+        return false;
+    }
+    /**
+     * Returns the dimensions of the picture. The default implementation measures {@link #content()};
+     * implementations should read them without decoding the picture when possible.
+     *
+     * @return the dimensions of the picture, or an empty {@link Dimension} if no content exists.
+     */
+    default Dimension dimensions() {
+        Image content = content();
+        return content == null ? new Dimension() : new Dimension(content.getWidth(null), content.getHeight(null));
+    }
+    /**
+     * Returns a rectangular region of the picture, keeping one pixel out of every {@code subsampling}
+     * pixels in each direction. The default implementation crops {@link #content()}; implementations
+     * should decode only the requested region when possible.
+     *
+     * @param region      the region of the picture, in picture pixels
+     * @param subsampling the subsampling factor, at least {@code 1}
+     * @return the image of the region, or {@code null} if no content exists.
+     */
+    default Image region(Rectangle region, int subsampling) {
+        Image content = content();
+        if (content == null) return null;
+        int step = Math.max(1, subsampling);
+        BufferedImage image = new BufferedImage(Math.max(1, (region.width + step - 1) / step), Math.max(1, (region.height + step - 1) / step), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.drawImage(content, 0, 0, image.getWidth(), image.getHeight(),
+                region.x, region.y, region.x + region.width, region.y + region.height, null);
+        graphics.dispose();
+        return image;
+    }
     /**
      * Returns the next picture in the sequence.
      *
@@ -35,12 +110,18 @@ public interface Picture {
      * A constant {@link Picture} instance representing a non-existent or empty picture.
      * The {@code None} instance provides default implementations where:
      * <ul>
+     *   <li>{@link #id()} returns an empty string.</li>
      *   <li>{@link #content()} returns {@code null}.</li>
      *   <li>{@link #next()} returns {@code None}.</li>
      *   <li>{@link #previous()} returns {@code None}.</li>
      * </ul>
      */
     Picture None = new Picture() {
+        @Override
+        public String id() {
+            return "";
+        }
+
         @Override
         public Image content() {
             return null;
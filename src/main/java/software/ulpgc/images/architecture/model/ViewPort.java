@@ -1,27 +1,51 @@
 package software.ulpgc.images.architecture.model;
 
+import java.awt.*;
+
 /**
  * The {@code ViewPort} class represents a rectangular viewport defined by its position
  * (x, y) and dimensions (width, height). It provides methods to fit a given content area
  * (with its own dimensions) into the viewport while maintaining aspect ratio, as well as
  * utilities for creating and manipulating viewports.
+ * <p>
+ * A viewport also carries a zoom {@code scale} and an {@code offset}, which map content coordinates
+ * to viewport coordinates: the content point at {@code (offsetX, offsetY)} is shown at the top-left
+ * corner of the viewport, and every content pixel covers {@code scale} viewport pixels.
+ * </p>
  *
  * <h2>Key Features:</h2>
  * <ul>
  *   <li>Static factory method {@link #ofSize(int, int)} for creating a viewport with default position (0, 0).</li>
  *   <li>Dynamic resizing methods like {@link #fit(int, int)} to adjust content into the viewport.</li>
  *   <li>Aspect ratio management for scaling and centering content.</li>
+ *   <li>Zoom and pan with {@link #zoom(double, double, double)} and {@link #pan(double, double)}.</li>
  * </ul>
  *
  * @param x      the x-coordinate of the viewport's top-left corner
  * @param y      the y-coordinate of the viewport's top-left corner
  * @param width  the width of the viewport
  * @param height the height of the viewport
+ * @param scale   the number of viewport pixels covered by a content pixel
+ * @param offsetX the x-coordinate of the content point shown at the top-left corner
+ * @param offsetY the y-coordinate of the content point shown at the top-left corner
  *
- * @version     1.0, 02/01/2025
+ * @version     1.1, 18/10/2026
  * @since       1.0
  */
-public record ViewPort(int x, int y, int width, int height) {
+public record ViewPort(int x, int y, int width, int height, double scale, double offsetX, double offsetY) {
+    /**
+     * Creates a new {@code ViewPort} with the specified position and dimensions, showing the
+     * content at its natural size from its origin.
+     *
+     * @param x      the x-coordinate of the viewport's top-left corner
+     * @param y      the y-coordinate of the viewport's top-left corner
+     * @param width  the width of the viewport
+     * @param height the height of the viewport
+     */
+    public ViewPort(int x, int y, int width, int height) {
+        this(x, y, width, height, 1, 0, 0);
+    }
+
     /**
      * Creates a new {@code ViewPort} with the specified width and height,
      * positioned at the origin (0, 0).
@@ -51,6 +75,95 @@ public record ViewPort(int x, int y, int width, int height) {
                 fitToHeightViewPort(width, height);
     }
 
+    /**
+     * Creates a zoomed viewport of the same size that shows content with the specified dimensions
+     * exactly as {@link #fit(int, int)} would place it.
+     *
+     * @param width  the width of the content
+     * @param height the height of the content
+     * @return a new {@code ViewPort} whose scale and offset reproduce the fitted layout
+     */
+    public ViewPort fitZoom(int width, int height) {
+        ViewPort fitted = fit(width, height);
+        double scale = (double) fitted.width() / width;
+        return new ViewPort(x, y, this.width, this.height, scale, -fitted.x() / scale, -fitted.y() / scale);
+    }
+
+    /**
+     * Changes the zoom scale while keeping the content point under the given anchor in place.
+     *
+     * @param scale   the new scale
+     * @param anchorX the x-coordinate of the anchor, in viewport pixels
+     * @param anchorY the y-coordinate of the anchor, in viewport pixels
+     * @return a new {@code ViewPort} with the new scale
+     */
+    public ViewPort zoom(double scale, double anchorX, double anchorY) {
+        return new ViewPort(x, y, width, height, scale,
+                offsetX + anchorX / this.scale - anchorX / scale,
+                offsetY + anchorY / this.scale - anchorY / scale);
+    }
+
+    /**
+     * Moves the content by the given distance.
+     *
+     * @param dx the horizontal distance, in viewport pixels
+     * @param dy the vertical distance, in viewport pixels
+     * @return a new {@code ViewPort} with the content moved
+     */
+    public ViewPort pan(double dx, double dy) {
+        return new ViewPort(x, y, width, height, scale, offsetX - dx / scale, offsetY - dy / scale);
+    }
+
+    /**
+     * Creates a viewport with the same scale and offset and the specified dimensions.
+     *
+     * @param width  the new width of the viewport
+     * @param height the new height of the viewport
+     * @return a new {@code ViewPort} with the new dimensions
+     */
+    public ViewPort resize(int width, int height) {
+        return new ViewPort(x, y, width, height, scale, offsetX, offsetY);
+    }
+
+    /**
+     * Returns the region of content with the specified dimensions that is visible in the viewport.
+     *
+     * @param width  the width of the content
+     * @param height the height of the content
+     * @return the visible region in content pixels, possibly empty
+     */
+    public Rectangle visibleRegion(int width, int height) {
+        int left = (int) Math.floor(offsetX);
+        int top = (int) Math.floor(offsetY);
+        int right = (int) Math.ceil(offsetX + this.width / scale);
+        int bottom = (int) Math.ceil(offsetY + this.height / scale);
+        return new Rectangle(left, top, right - left, bottom - top).intersection(new Rectangle(width, height));
+    }
+
+    /**
+     * Maps a region of content to the viewport.
+     *
+     * @param region the region in content pixels
+     * @return the region in viewport pixels
+     */
+    public Rectangle toViewPort(Rectangle region) {
+        int left = (int) Math.floor((region.x - offsetX) * scale);
+        int top = (int) Math.floor((region.y - offsetY) * scale);
+        int right = (int) Math.ceil((region.x + region.width - offsetX) * scale);
+        int bottom = (int) Math.ceil((region.y + region.height - offsetY) * scale);
+        return new Rectangle(left, top, right - left, bottom - top);
+    }
+
+    /**
+     * Returns the largest power-of-two subsampling factor that still gives at least one decoded
+     * pixel per viewport pixel at the current scale.
+     *
+     * @return the subsampling factor, at least {@code 1}
+     */
+    public int subsampling() {
+        return scale >= 1 ? 1 : Integer.highestOneBit((int) Math.max(1, 1 / scale));
+    }
+
     // Private helper methods for internal calculations and logic
 
     private boolean shouldScaleWidth(int width, int height) {
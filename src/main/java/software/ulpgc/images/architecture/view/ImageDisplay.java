@@ -31,6 +31,12 @@ public interface ImageDisplay {
      * @param listener the {@link OnClickListener} to invoke when the "Next Image" button is clicked.
      */
     void setNextImageButtonListener(OnClickListener listener);
+    /**
+     * Sets the listener for the "Slideshow" button, which starts and stops the automatic playback.
+     *
+     * @param listener the {@link OnClickListener} to invoke when the "Slideshow" button is clicked.
+     */
+    void setSlideshowButtonListener(OnClickListener listener);
     /**
      * Resets the image display state to its default configuration.
      */
@@ -47,4 +53,10 @@ public interface ImageDisplay {
      * @return the {@link OnClickListener} for the "Next Image" button, or {@code null} if no listener is set.
      */
     OnClickListener nextImageListener();
+    /**
+     * Retrieves the listener currently associated with the "Slideshow" button.
+     *
+     * @return the {@link OnClickListener} for the "Slideshow" button.
+     */
+    OnClickListener slideshowListener();
 }
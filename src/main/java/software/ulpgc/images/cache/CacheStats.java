@@ -0,0 +1,27 @@
+package software.ulpgc.images.cache;
+
+/**
+ * An immutable snapshot of the statistics of a {@link DecodedImageCache}.
+ *
+ * @param hits      the number of lookups served from the cache
+ * @param misses    the number of lookups that required a decode
+ * @param evictions the number of entries evicted to stay within the budget
+ * @param entries   the number of resident entries
+ * @param size      the number of raster bytes held by the resident entries
+ * @param budget    the maximum number of raster bytes the cache may hold
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record CacheStats(long hits, long misses, long evictions, int entries, long size, long budget) {
+    /**
+     * Returns the fraction of lookups served from the cache.
+     *
+     * @return the hit ratio between {@code 0} and {@code 1}, or {@code 0} if there were no lookups
+     */
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
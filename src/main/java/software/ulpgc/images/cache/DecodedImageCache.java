@@ -0,0 +1,286 @@
+package software.ulpgc.images.cache;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe cache of decoded {@link Image} objects keyed by picture identity.
+ * <p>
+ * The cache is bounded by a memory budget counted in raster bytes and evicts the least recently
+ * used entries once the budget is exceeded. Concurrent requests for the same key share a single
+ * decode, so an image is never decoded twice while it is resident or being decoded.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class DecodedImageCache {
+    /**
+     * The default memory budget of the cache, 256 MiB of raster data.
+     */
+    public static final long DEFAULT_BUDGET = 256L * 1024 * 1024;
+
+    private static final Image CANCELLED = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+
+    private final LinkedHashMap<String, Image> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Image>> pending = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long budget;
+    private long size;
+
+    /**
+     * Constructs a new {@code DecodedImageCache} with the {@link #DEFAULT_BUDGET}.
+     */
+    public DecodedImageCache() {
+        this(DEFAULT_BUDGET);
+    }
+
+    /**
+     * Constructs a new {@code DecodedImageCache} with the specified memory budget.
+     *
+     * @param budget the maximum number of raster bytes held by the cache
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public DecodedImageCache(long budget) {
+        if (budget < 0) throw new IllegalArgumentException("Negative cache budget: " + budget);
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the image cached under the given key, decoding it with the given {@link Decoder}
+     * if it is not resident. If another thread is already decoding the same key, this method
+     * waits for that decode instead of starting a new one. If that decode is cancelled, failing
+     * with an {@link InterruptedIOException}, the waiting threads do not share the failure: one of
+     * them decodes the image instead and the others wait for it.
+     *
+     * @param key     the identity of the image
+     * @param decoder the decoder used on a cache miss
+     * @return the decoded image
+     * @throws InterruptedIOException if the calling thread is interrupted while decoding or waiting
+     * @throws IOException if the image cannot be decoded
+     */
+    public Image get(String key, Decoder decoder) throws IOException {
+        boolean counted = false;
+        while (true) {
+            CompletableFuture<Image> future;
+            boolean owner = false;
+            synchronized (this) {
+                Image image = entries.get(key);
+                if (image != null) {
+                    if (!counted) hits.incrementAndGet();
+                    return image;
+                }
+                if (!counted) misses.incrementAndGet();
+                counted = true;
+                future = pending.get(key);
+                if (future == null) {
+                    pending.put(key, future = new CompletableFuture<>());
+                    owner = true;
+                }
+            }
+            if (owner) return decode(key, decoder, future);
+            Image image = await(future);
+            if (image != CANCELLED) return image;
+        }
+    }
+
+    /**
+     * Returns the image cached under the given key without decoding it. The lookup is not
+     * counted as a hit or a miss.
+     *
+     * @param key the identity of the image
+     * @return the cached image, or {@code null} if it is not resident
+     */
+    public synchronized Image peek(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Returns the image cached under the given key without decoding it, counting the lookup
+     * as a hit or a miss.
+     *
+     * @param key the identity of the image
+     * @return the cached image, or {@code null} if it is not resident
+     */
+    public synchronized Image lookup(String key) {
+        Image image = entries.get(key);
+        (image != null ? hits : misses).incrementAndGet();
+        return image;
+    }
+
+    /**
+     * Stores an image produced outside of the cache, replacing any image cached under the same key.
+     *
+     * @param key   the identity of the image
+     * @param image the image to store
+     */
+    public void put(String key, Image image) {
+        store(key, image);
+    }
+
+    /**
+     * Checks whether an image is resident in the cache. This does not affect the LRU order.
+     *
+     * @param key the identity of the image
+     * @return {@code true} if the image is resident
+     */
+    public synchronized boolean contains(String key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Removes the image cached under the given key, if any.
+     *
+     * @param key the identity of the image
+     */
+    public synchronized void invalidate(String key) {
+        Image image = entries.remove(key);
+        if (image != null) size -= sizeOf(image);
+    }
+
+    /**
+     * Removes the image cached under the given key together with its size-hinted variants,
+     * which are cached under the key followed by {@code '@'}.
+     *
+     * @param key the identity of the image
+     */
+    public synchronized void invalidateAll(String key) {
+        Iterator<Map.Entry<String, Image>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Image> entry = iterator.next();
+            if (!entry.getKey().equals(key) && !entry.getKey().startsWith(key + "@")) continue;
+            size -= sizeOf(entry.getValue());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Removes every image from the cache.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    /**
+     * Changes the memory budget of the cache, evicting entries if the new budget is smaller
+     * than the current size.
+     *
+     * @param budget the new maximum number of raster bytes held by the cache
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public synchronized void resize(long budget) {
+        if (budget < 0) throw new IllegalArgumentException("Negative cache budget: " + budget);
+        this.budget = budget;
+        evictOverBudget();
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the current {@link CacheStats}
+     */
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits.get(), misses.get(), evictions.get(), entries.size(), size, budget);
+    }
+
+    /**
+     * Computes the number of raster bytes used by the given image. For {@link BufferedImage}s
+     * the size of the backing data buffer is used; other images are assumed to be packed
+     * 32-bit ARGB.
+     *
+     * @param image the image to measure
+     * @return the number of raster bytes, or {@code 0} if the size is unknown
+     */
+    public static long sizeOf(Image image) {
+        if (image instanceof BufferedImage buffered) return sizeOf(buffered.getRaster().getDataBuffer());
+        return Math.max(0L, (long) image.getWidth(null) * image.getHeight(null) * Integer.BYTES);
+    }
+
+    // Private helper methods for decoding and eviction
+
+    private Image decode(String key, Decoder decoder, CompletableFuture<Image> future) throws IOException {
+        Image image;
+        try {
+            image = decoder.decode();
+        } catch (InterruptedIOException e) {
+            release(key);
+            future.complete(CANCELLED);
+            throw e;
+        } catch (Throwable e) {
+            release(key);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        store(key, image);
+        release(key);
+        future.complete(image);
+        return image;
+    }
+
+    private synchronized void release(String key) {
+        pending.remove(key);
+    }
+
+    private static Image await(CompletableFuture<Image> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a decode");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private synchronized void store(String key, Image image) {
+        if (image == null || sizeOf(image) > budget) return;
+        Image previous = entries.put(key, image);
+        if (previous != null) size -= sizeOf(previous);
+        size += sizeOf(image);
+        evictOverBudget();
+    }
+
+    private void evictOverBudget() {
+        Iterator<Image> iterator = entries.values().iterator();
+        while (size > budget && iterator.hasNext()) {
+            size -= sizeOf(iterator.next());
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static long sizeOf(DataBuffer buffer) {
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / Byte.SIZE;
+    }
+
+    /**
+     * Decodes an image on a cache miss.
+     */
+    @FunctionalInterface
+    public interface Decoder {
+        /**
+         * Decodes the image.
+         *
+         * @return the decoded image
+         * @throws IOException if an I/O error occurs during decoding
+         */
+        Image decode() throws IOException;
+    }
+}
@@ -0,0 +1,212 @@
+package software.ulpgc.images.cache;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the caches of the viewer within a fixed heap by shedding them under memory pressure.
+ * <p>
+ * The governor splits a total memory budget between the caches it sizes, and registers usage
+ * thresholds on the heap {@link MemoryPoolMXBean}s. When a pool crosses its threshold, the registered
+ * {@link MemoryTier}s are shed one at a time in registration order, so the cheapest tiers to rebuild
+ * go first, until the heap occupancy after garbage collection is back under the threshold. Once it
+ * falls well below the threshold, the tiers are restored one at a time in the reverse order.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class MemoryGovernor implements AutoCloseable {
+    /**
+     * The default heap occupancy at which tiers start being shed.
+     */
+    public static final double DEFAULT_THRESHOLD = 0.8;
+    private static final double RESTORE_MARGIN = 0.2;
+    private static final Duration RECHECK_PERIOD = Duration.ofSeconds(1);
+    private static final System.Logger LOGGER = System.getLogger(MemoryGovernor.class.getName());
+
+    private final long budget;
+    private final double threshold;
+    private final List<String> names = new ArrayList<>();
+    private final List<MemoryTier> tiers = new ArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(MemoryGovernor::daemonThread);
+    private final NotificationListener listener = this::handle;
+    private ScheduledFuture<?> recheck;
+    private int shed;
+
+    /**
+     * Constructs a new {@code MemoryGovernor} with the given budget and the {@link #DEFAULT_THRESHOLD}.
+     *
+     * @param budget the total number of bytes the caches may hold
+     */
+    public MemoryGovernor(long budget) {
+        this(budget, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructs a new {@code MemoryGovernor}.
+     *
+     * @param budget    the total number of bytes the caches may hold
+     * @param threshold the fraction of the maximum heap at which tiers start being shed
+     * @throws IllegalArgumentException if the budget is negative or the threshold is not between 0 and 1
+     */
+    public MemoryGovernor(long budget, double threshold) {
+        if (budget < 0 || threshold <= 0 || threshold >= 1)
+            throw new IllegalArgumentException("Invalid memory budget: " + budget + " bytes at " + threshold);
+        this.budget = budget;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the default total budget: half of the maximum heap, capped at the sum of the default
+     * budgets of the decoded images, renditions and tiles.
+     *
+     * @return the default budget in bytes
+     */
+    public static long defaultBudget() {
+        return Math.min(Runtime.getRuntime().maxMemory() / 2, 416L * 1024 * 1024);
+    }
+
+    /**
+     * Returns the given share of the total budget, to size a cache with.
+     *
+     * @param fraction the share of the budget, between 0 and 1
+     * @return the number of bytes of the share
+     */
+    public long share(double fraction) {
+        return (long) (budget * fraction);
+    }
+
+    /**
+     * Registers a tier to be shed under memory pressure. Tiers are shed in the order they are
+     * registered, so the tiers that are cheapest to rebuild should be registered first.
+     *
+     * @param name the name of the tier, used in logs
+     * @param tier the {@link MemoryTier} to shed
+     * @return this governor
+     */
+    public synchronized MemoryGovernor register(String name, MemoryTier tier) {
+        names.add(name);
+        tiers.add(tier);
+        return this;
+    }
+
+    /**
+     * Sets the usage and collection usage thresholds of the heap memory pools and starts listening
+     * to their notifications.
+     */
+    public void start() {
+        for (MemoryPoolMXBean pool : heapPools()) {
+            long max = pool.getUsage().getMax();
+            if (max <= 0) continue;
+            if (pool.isUsageThresholdSupported()) pool.setUsageThreshold((long) (max * threshold));
+            if (pool.isCollectionUsageThresholdSupported()) pool.setCollectionUsageThreshold((long) (max * threshold));
+        }
+        ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).addNotificationListener(listener, null, null);
+    }
+
+    /**
+     * Returns the current heap occupancy: the highest ratio between the used and the maximum size of
+     * a heap pool after its last garbage collection, or of the whole heap if no pool reports it.
+     *
+     * @return the heap occupancy, between 0 and 1
+     */
+    public double occupancy() {
+        double occupancy = -1;
+        for (MemoryPoolMXBean pool : heapPools()) {
+            MemoryUsage usage = pool.isCollectionUsageThresholdSupported() ? pool.getCollectionUsage() : null;
+            if (usage != null && usage.getMax() > 0) occupancy = Math.max(occupancy, (double) usage.getUsed() / usage.getMax());
+        }
+        if (occupancy >= 0) return occupancy;
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        return heap.getMax() > 0 ? (double) heap.getUsed() / heap.getMax() : 0;
+    }
+
+    /**
+     * Returns the number of tiers currently shed.
+     *
+     * @return the number of shed tiers
+     */
+    public synchronized int shedCount() {
+        return shed;
+    }
+
+    /**
+     * Sheds the next tier, as if a memory threshold had been crossed.
+     */
+    public synchronized void shedNext() {
+        if (shed < tiers.size()) {
+            tiers.get(shed).shed();
+            LOGGER.log(System.Logger.Level.INFO, "Shed the " + names.get(shed) + " tier at a heap occupancy of " + "%.2f".formatted(occupancy()));
+            shed++;
+        }
+        scheduleRecheck();
+    }
+
+    /**
+     * Stops listening to memory notifications and restores every shed tier.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).removeNotificationListener(listener);
+        } catch (ListenerNotFoundException ignored) {
+        }
+        scheduler.shutdownNow();
+        while (shed > 0) tiers.get(--shed).restore();
+    }
+
+    // Private helper methods for shedding and restoring tiers
+
+    private void handle(Notification notification, Object handback) {
+        String type = notification.getType();
+        if (type.equals(MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED) || type.equals(MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED))
+            shedNext();
+    }
+
+    private synchronized void recheck() {
+        recheck = null;
+        double occupancy = occupancy();
+        if (occupancy > threshold) shedNext();
+        else if (occupancy < threshold - RESTORE_MARGIN && shed > 0) restoreLast();
+        else if (shed > 0) scheduleRecheck();
+    }
+
+    private void restoreLast() {
+        tiers.get(--shed).restore();
+        LOGGER.log(System.Logger.Level.INFO, "Restored the " + names.get(shed) + " tier");
+        if (shed > 0) scheduleRecheck();
+    }
+
+    private void scheduleRecheck() {
+        if (recheck == null && !scheduler.isShutdown())
+            recheck = scheduler.schedule(this::recheck, RECHECK_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+                .toList();
+    }
+
+    private static Thread daemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "memory-governor");
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,49 @@
+package software.ulpgc.images.cache;
+
+/**
+ * A tier of memory that a {@link MemoryGovernor} can shed under memory pressure and let regrow
+ * once the pressure is gone.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public interface MemoryTier {
+    /**
+     * The factor by which a shed cache tier is smaller than its nominal budget.
+     */
+    int SHED_RATIO = 8;
+
+    /**
+     * Releases most of the memory held by this tier and stops it from growing again.
+     */
+    void shed();
+
+    /**
+     * Lets this tier grow back to its nominal size.
+     */
+    void restore();
+
+    /**
+     * Returns a tier that sheds the given cache down to {@code 1/}{@value #SHED_RATIO} of its current
+     * budget, and restores that budget afterwards. A shed cache keeps a small budget rather than none,
+     * so the images on screen can still be cached while the tier is shed.
+     *
+     * @param cache the {@link DecodedImageCache} of the tier
+     * @return a {@code MemoryTier} backed by the cache
+     */
+    static MemoryTier of(DecodedImageCache cache) {
+        long nominal = cache.stats().budget();
+        return new MemoryTier() {
+            @Override
+            public void shed() {
+                cache.resize(nominal / SHED_RATIO);
+            }
+
+            @Override
+            public void restore() {
+                cache.resize(nominal);
+            }
+        };
+    }
+}
@@ -0,0 +1,225 @@
+package software.ulpgc.images.cache;
+
+import software.ulpgc.images.architecture.model.Picture;
+
+import java.awt.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes the neighbours of the current {@link Picture} on background threads, so that a navigation
+ * finds its target already decoded and only needs to draw it.
+ * <p>
+ * After every navigation the prefetcher requests {@link Picture#content(int, int)} at the current
+ * target size for the next and previous pictures of a window around the target. The window grows in the direction the user keeps browsing
+ * and shrinks in the opposite one. Pictures that fall out of the window are cancelled, interrupting
+ * their decode if it has already started.
+ * </p>
+ * <p>
+ * As a {@link MemoryTier}, the prefetcher is the first tier shed under memory pressure: prefetching
+ * is suspended until the tier is restored.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class PicturePrefetcher implements AutoCloseable, MemoryTier {
+    /**
+     * The direction of a navigation.
+     */
+    public enum Direction { Forward, Backward }
+
+    /**
+     * The default number of pictures always prefetched in each direction.
+     */
+    public static final int DEFAULT_MINIMUM_WINDOW = 1;
+    /**
+     * The default number of pictures prefetched in a direction after browsing in it repeatedly.
+     */
+    public static final int DEFAULT_MAXIMUM_WINDOW = 4;
+
+    private final int minimumWindow;
+    private final int maximumWindow;
+    private final ExecutorService executor;
+    private final Map<String, Future<?>> scheduled = new LinkedHashMap<>();
+    private int ahead;
+    private int behind;
+    private Direction lastDirection = Direction.Forward;
+    private long navigations;
+    private long ready;
+    private boolean suspended;
+    private volatile Dimension targetSize = new Dimension();
+
+    /**
+     * Constructs a new {@code PicturePrefetcher} with a window between 1 and 4 pictures in each
+     * direction, decoding on two background threads.
+     */
+    public PicturePrefetcher() {
+        this(DEFAULT_MINIMUM_WINDOW, DEFAULT_MAXIMUM_WINDOW, 2);
+    }
+
+    /**
+     * Constructs a new {@code PicturePrefetcher}.
+     *
+     * @param minimumWindow the number of pictures always prefetched in each direction
+     * @param maximumWindow the number of pictures prefetched in a direction after browsing in it repeatedly
+     * @param threads       the number of background decoding threads
+     * @throws IllegalArgumentException if the window bounds or the number of threads are invalid
+     */
+    public PicturePrefetcher(int minimumWindow, int maximumWindow, int threads) {
+        if (minimumWindow < 0 || maximumWindow < minimumWindow)
+            throw new IllegalArgumentException("Invalid prefetch window: " + minimumWindow + ".." + maximumWindow);
+        this.minimumWindow = minimumWindow;
+        this.maximumWindow = maximumWindow;
+        this.ahead = Math.min(minimumWindow + 1, maximumWindow);
+        this.behind = minimumWindow;
+        this.executor = Executors.newFixedThreadPool(threads, daemonThreads());
+    }
+
+    /**
+     * Sets the size the prefetched pictures are intended to be displayed at. An empty size
+     * requests full-resolution content.
+     *
+     * @param size the display size of the pictures
+     */
+    public void setTargetSize(Dimension size) {
+        targetSize = new Dimension(size);
+    }
+
+    /**
+     * Starts prefetching around the given picture without recording a navigation.
+     *
+     * @param picture the picture being displayed
+     */
+    public synchronized void start(Picture picture) {
+        reschedule(picture);
+    }
+
+    /**
+     * Records a navigation to the given picture, adapts the window to the direction of the
+     * navigation and prefetches the neighbours of the picture.
+     *
+     * @param picture   the target of the navigation
+     * @param direction the direction of the navigation
+     */
+    public synchronized void navigated(Picture picture, Direction direction) {
+        navigations++;
+        if (isReady(picture)) ready++;
+        adaptTo(direction);
+        reschedule(picture);
+    }
+
+    /**
+     * Checks whether the given picture is decoded in memory at the current target size, so that
+     * displaying it does not decode it again. A prefetch that completed is not enough: its image may
+     * have been evicted since, or decoded for a previous target size.
+     *
+     * @param picture the picture to check
+     * @return {@code true} if the content the display requests is resident
+     */
+    public boolean isReady(Picture picture) {
+        Dimension size = targetSize;
+        return picture.isDecoded(size.width, size.height);
+    }
+
+    /**
+     * Returns a snapshot of the prefetch statistics.
+     *
+     * @return the current {@link PrefetchStats}
+     */
+    public synchronized PrefetchStats stats() {
+        return new PrefetchStats(navigations, ready, ahead, behind);
+    }
+
+    /**
+     * Cancels every prefetch and suspends prefetching until {@link #restore()} is called.
+     */
+    @Override
+    public synchronized void shed() {
+        suspended = true;
+        cancelOutside(Map.of());
+    }
+
+    /**
+     * Resumes prefetching from the next navigation.
+     */
+    @Override
+    public synchronized void restore() {
+        suspended = false;
+    }
+
+    /**
+     * Cancels every pending prefetch and stops the background threads.
+     */
+    @Override
+    public synchronized void close() {
+        scheduled.values().forEach(future -> future.cancel(false));
+        scheduled.clear();
+        executor.shutdownNow();
+    }
+
+    // Private helper methods for window adaptation and scheduling
+
+    private void adaptTo(Direction direction) {
+        if (direction == lastDirection) {
+            if (direction == Direction.Forward) ahead = Math.min(ahead + 1, maximumWindow);
+            else behind = Math.min(behind + 1, maximumWindow);
+        } else {
+            ahead = direction == Direction.Forward ? Math.min(minimumWindow + 1, maximumWindow) : minimumWindow;
+            behind = direction == Direction.Backward ? Math.min(minimumWindow + 1, maximumWindow) : minimumWindow;
+        }
+        lastDirection = direction;
+    }
+
+    private void reschedule(Picture picture) {
+        if (suspended) return;
+        Map<String, Picture> window = windowAround(picture);
+        cancelOutside(window);
+        window.forEach((id, neighbour) -> scheduled.computeIfAbsent(id, _ -> executor.submit(() -> decode(neighbour))));
+    }
+
+    private Image decode(Picture picture) {
+        Dimension size = targetSize;
+        return size.width > 0 && size.height > 0 ? picture.content(size.width, size.height) : picture.content();
+    }
+
+    private Map<String, Picture> windowAround(Picture picture) {
+        Map<String, Picture> window = new LinkedHashMap<>();
+        window.put(picture.id(), picture);
+        Picture next = picture;
+        Picture previous = picture;
+        for (int i = 0; i < Math.max(ahead, behind); i++) {
+            if (i < ahead) window.putIfAbsent((next = next.next()).id(), next);
+            if (i < behind) window.putIfAbsent((previous = previous.previous()).id(), previous);
+        }
+        window.remove(Picture.None.id());
+        return window;
+    }
+
+    private void cancelOutside(Map<String, Picture> window) {
+        Iterator<Map.Entry<String, Future<?>>> iterator = scheduled.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Future<?>> entry = iterator.next();
+            if (window.containsKey(entry.getKey())) continue;
+            entry.getValue().cancel(true);
+            iterator.remove();
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "picture-prefetcher-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        };
+    }
+}
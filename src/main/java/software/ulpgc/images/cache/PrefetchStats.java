@@ -0,0 +1,24 @@
+package software.ulpgc.images.cache;
+
+/**
+ * An immutable snapshot of the statistics of a {@link PicturePrefetcher}.
+ *
+ * @param navigations the number of navigations recorded
+ * @param ready       the number of navigations whose target was already decoded
+ * @param ahead       the current number of pictures prefetched after the current one
+ * @param behind      the current number of pictures prefetched before the current one
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record PrefetchStats(long navigations, long ready, int ahead, int behind) {
+    /**
+     * Returns the fraction of navigations whose target was already decoded.
+     *
+     * @return the ready ratio between {@code 0} and {@code 1}, or {@code 0} if there were no navigations
+     */
+    public double readyRatio() {
+        return navigations == 0 ? 0 : (double) ready / navigations;
+    }
+}
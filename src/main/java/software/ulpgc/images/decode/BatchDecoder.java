@@ -0,0 +1,141 @@
+package software.ulpgc.images.decode;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes batches of images in parallel, reusing readers and destination rasters.
+ * <p>
+ * Each worker thread claims the next image of the batch until none is left, decodes it with a
+ * reader from the {@link ImageReaderPool} and hands it to a consumer on the same thread. The decoded
+ * image is only lent to the consumer: once the consumer returns, the worker decodes its next image
+ * into the same destination whenever the sizes and pixel layouts match, so a batch of similar images
+ * allocates one raster per worker rather than one per image.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class BatchDecoder implements AutoCloseable {
+    private final ImageDeserializer deserializer = new ImageDeserializer(DisplayFormat.unconverted());
+    private final ExecutorService executor;
+    private final int threads;
+
+    /**
+     * Constructs a new {@code BatchDecoder} with one thread per available processor.
+     */
+    public BatchDecoder() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new {@code BatchDecoder}.
+     *
+     * @param threads the number of decoding threads
+     * @throws IllegalArgumentException if the number of threads is not positive
+     */
+    public BatchDecoder(int threads) {
+        if (threads <= 0) throw new IllegalArgumentException("Invalid number of decoding threads: " + threads);
+        this.threads = threads;
+        this.executor = Executors.newFixedThreadPool(threads, daemonThreads());
+    }
+
+    /**
+     * Decodes every source of the batch for the given display size and hands each image to the
+     * consumer on the thread that decoded it. The image must not be used after the consumer returns.
+     * An empty size decodes the images at full resolution. Sources that cannot be decoded are counted
+     * as failures and skipped.
+     *
+     * @param sources  the compressed images of the batch
+     * @param width    the width the images are intended to be displayed at
+     * @param height   the height the images are intended to be displayed at
+     * @param consumer the consumer of the decoded images
+     * @return the {@link DecodeReport} of the batch
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the batch
+     */
+    public DecodeReport decodeAll(List<ByteBuffer> sources, int width, int height, Consumer consumer) throws InterruptedException {
+        long start = System.nanoTime();
+        AtomicInteger next = new AtomicInteger();
+        List<Future<int[]>> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(threads, sources.size()); i++)
+            workers.add(executor.submit(() -> work(sources, next, width, height, consumer)));
+        int decoded = 0, failed = 0, reused = 0;
+        for (Future<int[]> worker : workers) {
+            int[] counts = join(worker);
+            decoded += counts[0];
+            failed += counts[1];
+            reused += counts[2];
+        }
+        return new DecodeReport(decoded, failed, reused, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Stops the decoding threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // Private helper methods for the decoding workers
+
+    private int[] work(List<ByteBuffer> sources, AtomicInteger next, int width, int height, Consumer consumer) {
+        int[] counts = new int[3];
+        BufferedImage destination = null;
+        for (int index = next.getAndIncrement(); index < sources.size(); index = next.getAndIncrement()) {
+            try {
+                Image image = deserializer.deserialize(sources.get(index).duplicate(), width, height, destination);
+                if (image == destination) counts[2]++;
+                if (image instanceof BufferedImage buffered) destination = buffered;
+                counts[0]++;
+                consumer.accept(index, image);
+            } catch (IOException e) {
+                counts[1]++;
+            }
+        }
+        return counts;
+    }
+
+    private static int[] join(Future<int[]> worker) throws InterruptedException {
+        try {
+            return worker.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "batch-decoder-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * The consumer of the images decoded by a {@link BatchDecoder}.
+     */
+    @FunctionalInterface
+    public interface Consumer {
+        /**
+         * Consumes a decoded image. The image is reused by the decoder once this method returns.
+         *
+         * @param index the position of the image in the batch
+         * @param image the decoded image
+         */
+        void accept(int index, Image image);
+    }
+}
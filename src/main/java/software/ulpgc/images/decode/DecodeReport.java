@@ -0,0 +1,26 @@
+package software.ulpgc.images.decode;
+
+import java.time.Duration;
+
+/**
+ * The outcome of a batch decoded by a {@link BatchDecoder}.
+ *
+ * @param decoded the number of images decoded
+ * @param failed  the number of images that could not be decoded
+ * @param reused  the number of images decoded into a reused destination
+ * @param elapsed the wall-clock time of the whole batch
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record DecodeReport(int decoded, int failed, int reused, Duration elapsed) {
+    /**
+     * Returns the number of images decoded per second of wall-clock time.
+     *
+     * @return the decode throughput, or {@code 0} if the batch took no measurable time
+     */
+    public double throughput() {
+        return elapsed.isZero() ? 0 : decoded * 1e9 / elapsed.toNanos();
+    }
+}
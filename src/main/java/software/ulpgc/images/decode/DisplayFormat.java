@@ -0,0 +1,152 @@
+package software.ulpgc.images.decode;
+
+import software.ulpgc.images.metrics.Metrics;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Converts decoded images into the pixel layout of the display they are drawn on.
+ * <p>
+ * Codecs produce whatever raster suits them, typically {@link BufferedImage#TYPE_3BYTE_BGR} for JPEG
+ * images or a custom type for indexed and grey images. Drawing such an image on the display, or into
+ * a buffer compatible with it, falls back to generic per-pixel loops, while an image of the display
+ * layout is blitted by the accelerated loops. Converting each image once, right after it is decoded
+ * and before it is cached, moves that cost out of every later repaint. Without a display, images are
+ * converted to packed integer pixels, which is the layout of the buffers the viewer draws into when
+ * headless.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class DisplayFormat {
+    private static final DisplayFormat UNCONVERTED = new DisplayFormat(null, false);
+    private static final DisplayFormat GLOBAL = new DisplayFormat(defaultConfiguration(), true);
+
+    private final GraphicsConfiguration configuration;
+    private final boolean converting;
+    private final BufferedImage[] references = new BufferedImage[Transparency.TRANSLUCENT + 1];
+    private final AtomicLong converted = new AtomicLong();
+    private final AtomicLong compatible = new AtomicLong();
+
+    /**
+     * Constructs a new {@code DisplayFormat} for the given display.
+     *
+     * @param configuration the graphics configuration of the display, or {@code null} if headless
+     */
+    public DisplayFormat(GraphicsConfiguration configuration) {
+        this(configuration, true);
+    }
+
+    private DisplayFormat(GraphicsConfiguration configuration, boolean converting) {
+        this.configuration = configuration;
+        this.converting = converting;
+        for (int transparency = Transparency.OPAQUE; transparency <= Transparency.TRANSLUCENT; transparency++)
+            references[transparency] = createCompatibleImage(1, 1, transparency);
+    }
+
+    /**
+     * Returns the format of the default screen, or the headless format when there is no screen.
+     *
+     * @return the global {@code DisplayFormat}
+     */
+    public static DisplayFormat global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns a format that leaves images in the layout their codec produced, for decoders that reuse
+     * their destination rasters and consumers that never draw the images.
+     *
+     * @return a {@code DisplayFormat} that converts nothing
+     */
+    public static DisplayFormat unconverted() {
+        return UNCONVERTED;
+    }
+
+    /**
+     * Creates an image of the given size and transparency in the layout of the display.
+     *
+     * @param width        the width of the image
+     * @param height       the height of the image
+     * @param transparency the {@link Transparency} of the image
+     * @return a new {@link BufferedImage}
+     */
+    public BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        if (configuration != null) return configuration.createCompatibleImage(width, height, transparency);
+        return new BufferedImage(width, height, transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    /**
+     * Tells whether the given image already has the layout of the display.
+     *
+     * @param image the image to check
+     * @return {@code true} if the image can be blitted without conversion
+     */
+    public boolean isCompatible(BufferedImage image) {
+        BufferedImage reference = references[image.getTransparency()];
+        if (image.getType() != reference.getType()) return false;
+        return image.getType() != BufferedImage.TYPE_CUSTOM ||
+                image.getColorModel().equals(reference.getColorModel()) &&
+                image.getSampleModel().getClass() == reference.getSampleModel().getClass();
+    }
+
+    /**
+     * Converts the given image into the layout of the display. Images that already have that layout,
+     * and images that are not backed by a raster, are returned as they are.
+     *
+     * @param image the decoded image, or {@code null}
+     * @return the converted image, or the given image if no conversion was needed
+     */
+    public Image convert(Image image) {
+        if (!converting || !(image instanceof BufferedImage source)) return image;
+        if (isCompatible(source)) {
+            compatible.incrementAndGet();
+            return source;
+        }
+        long start = System.nanoTime();
+        BufferedImage result = createCompatibleImage(source.getWidth(), source.getHeight(), source.getTransparency());
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setComposite(AlphaComposite.Src);
+            graphics.drawImage(source, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        Metrics.global().latency("convert").recordSince(start);
+        converted.incrementAndGet();
+        return result;
+    }
+
+    /**
+     * Returns the number of images converted so far.
+     *
+     * @return the number of converted images
+     */
+    public long convertedCount() {
+        return converted.get();
+    }
+
+    /**
+     * Returns the number of images that already had the layout of the display.
+     *
+     * @return the number of images left as they were
+     */
+    public long compatibleCount() {
+        return compatible.get();
+    }
+
+    // Private helper methods for resolving the display
+
+    private static GraphicsConfiguration defaultConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) return null;
+        try {
+            return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        } catch (HeadlessException e) {
+            return null;
+        }
+    }
+}
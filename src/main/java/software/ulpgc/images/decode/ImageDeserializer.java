@@ -0,0 +1,374 @@
+package software.ulpgc.images.decode;
+
+import software.ulpgc.images.architecture.io.RegionDeserializer;
+import software.ulpgc.images.cache.DecodedImageCache;
+import software.ulpgc.images.metrics.Metrics;
+import software.ulpgc.images.store.ByteBufferImageInputStream;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.event.IIOReadProgressListener;
+import javax.imageio.event.IIOReadUpdateListener;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+/**
+ * A custom deserializer for converting byte buffers into {@link Image} objects.
+ * <p>
+ * This class implements the {@code Deserializer} interface and provides a
+ * method to deserialize byte buffers into {@link Image} instances using the
+ * {@link ImageIO} library, with readers taken from the {@link ImageReaderPool}. The bytes
+ * are read in place through a {@link ByteBufferImageInputStream}, so heap, direct and
+ * memory-mapped buffers are decoded without being copied. When a display size is given, the image is decoded
+ * with source subsampling so that only the pixels needed for that size are read,
+ * and regions of the image can be decoded on their own to render tiles. A low-resolution preview can
+ * be decoded first, from the embedded thumbnail, the first scan of a progressive image or a heavily
+ * subsampled decode, to be shown while the full-quality image is decoded.
+ * </p>
+ * <p>
+ * Decoding stops early when the decoding thread is interrupted, which lets a superseded decode be
+ * cancelled; the decode then fails with an {@link InterruptedIOException} instead of returning a
+ * partial image.
+ * </p>
+ * <p>
+ * Decoded images are converted to the layout of the display by a {@link DisplayFormat}, so that the
+ * images handed out, and cached by the loaders, are blitted without conversion on every repaint.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.0
+ */
+public class ImageDeserializer implements RegionDeserializer<ByteBuffer> {
+    /**
+     * The factor by which a preview is smaller than the size it is displayed at.
+     */
+    public static final int PREVIEW_RATIO = 8;
+    private static final String JPEG_METADATA = "javax_imageio_jpeg_image_1.0";
+
+    private final DisplayFormat format;
+
+    /**
+     * Constructs a new {@code ImageDeserializer} that converts images to the layout of the
+     * default screen.
+     */
+    public ImageDeserializer() {
+        this(DisplayFormat.global());
+    }
+
+    /**
+     * Constructs a new {@code ImageDeserializer} that converts images with the given format.
+     *
+     * @param format the {@link DisplayFormat} decoded images are converted to
+     */
+    public ImageDeserializer(DisplayFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * Deserializes a byte buffer into an {@link Image} object.
+     * <p>
+     * This method reads the remaining bytes of the provided buffer with the first {@link ImageIO}
+     * reader that accepts them and returns the resulting {@link Image} object. If the deserialization
+     * fails, it throws an {@link IOException} wrapping the original exception.
+     * </p>
+     *
+     * @param bytes the byte buffer containing the serialized image data.
+     * @return the deserialized {@link Image} object.
+     * @throws IOException if the deserialization fails or the buffer does not contain valid image data.
+     */
+    @Override
+    public Image deserialize(ByteBuffer bytes) throws IOException {
+        return format.convert(read(bytes, reader -> decode(reader, reader.getDefaultReadParam())));
+    }
+
+    /**
+     * Deserializes a byte buffer into an {@link Image} object intended to be displayed at the given size.
+     * <p>
+     * The image is decoded with the largest integral source subsampling that keeps it at least as large
+     * as the requested size in both dimensions, so a large image is decoded straight to roughly display
+     * resolution. Images smaller than the requested size are decoded at full resolution.
+     * </p>
+     *
+     * @param bytes  the byte buffer containing the serialized image data.
+     * @param width  the width the image is intended to be displayed at.
+     * @param height the height the image is intended to be displayed at.
+     * @return the deserialized {@link Image} object.
+     * @throws IOException if the deserialization fails or the buffer does not contain valid image data.
+     */
+    @Override
+    public Image deserialize(ByteBuffer bytes, int width, int height) throws IOException {
+        return format.convert(read(bytes, reader -> {
+            int subsampling = subsamplingFor(reader.getWidth(0), reader.getHeight(0), width, height);
+            return decode(reader, subsampled(reader.getDefaultReadParam(), subsampling));
+        }));
+    }
+
+    /**
+     * Deserializes a byte buffer into an {@link Image} object intended to be displayed at the given size,
+     * decoding into the given destination when it can hold the result.
+     * <p>
+     * The image is decoded as by {@link #deserialize(ByteBuffer, int, int)}. When the destination has
+     * the size and the pixel layout the decoded image would have, its raster is overwritten instead of
+     * allocating a new one, and the destination itself is returned. Callers must therefore only pass
+     * a destination that nothing else still reads from. The image is left in the layout of its codec,
+     * so that it keeps fitting the destination.
+     * </p>
+     *
+     * @param bytes       the byte buffer containing the serialized image data.
+     * @param width       the width the image is intended to be displayed at.
+     * @param height      the height the image is intended to be displayed at.
+     * @param destination the image to decode into, or {@code null} to allocate a new one.
+     * @return the deserialized {@link Image} object, which is the destination if it was reused.
+     * @throws IOException if the deserialization fails or the buffer does not contain valid image data.
+     */
+    public Image deserialize(ByteBuffer bytes, int width, int height, BufferedImage destination) throws IOException {
+        return read(bytes, reader -> {
+            int subsampling = subsamplingFor(reader.getWidth(0), reader.getHeight(0), width, height);
+            ImageReadParam param = subsampled(reader.getDefaultReadParam(), subsampling);
+            if (fits(reader, subsampling, destination)) param.setDestination(destination);
+            return decode(reader, param);
+        });
+    }
+
+    /**
+     * Reads the dimensions of the image held by a byte buffer from its header, without decoding any pixels.
+     *
+     * @param bytes the byte buffer containing the serialized image data.
+     * @return the dimensions of the image.
+     * @throws IOException if the header cannot be read or the buffer does not contain valid image data.
+     */
+    @Override
+    public Dimension dimensionsOf(ByteBuffer bytes) throws IOException {
+        return read(bytes, reader -> new Dimension(reader.getWidth(0), reader.getHeight(0)));
+    }
+
+    /**
+     * Deserializes a rectangular region of the image held by a byte buffer at reduced resolution.
+     * <p>
+     * Only the pixels of the region are decoded into memory, so tiles of very large images can be
+     * decoded without holding the whole raster. The region is clipped to the bounds of the image.
+     * </p>
+     *
+     * @param bytes       the byte buffer containing the serialized image data.
+     * @param region      the region to decode, in source pixels.
+     * @param subsampling the subsampling factor, at least {@code 1}.
+     * @return the deserialized region as an {@link Image} object.
+     * @throws IOException if the deserialization fails or the buffer does not contain valid image data.
+     */
+    @Override
+    public Image deserialize(ByteBuffer bytes, Rectangle region, int subsampling) throws IOException {
+        return format.convert(read(bytes, reader -> {
+            ImageReadParam param = subsampled(reader.getDefaultReadParam(), subsampling);
+            param.setSourceRegion(region.intersection(new Rectangle(reader.getWidth(0), reader.getHeight(0))));
+            return decode(reader, param);
+        }));
+    }
+
+    /**
+     * Deserializes a low-resolution preview of the image held by a byte buffer.
+     * <p>
+     * The preview is {@value #PREVIEW_RATIO} times smaller than the requested size. It is taken from
+     * the thumbnail embedded in the image when that thumbnail is large enough, or from the first scan
+     * of a progressive JPEG image. Other images are decoded whole with the subsampling of the preview
+     * size: the whole image is still entropy-decoded, but only a fraction of its pixels are converted
+     * and stored, so the preview is still ready well before the full-quality image.
+     * </p>
+     *
+     * @param bytes  the byte buffer containing the serialized image data.
+     * @param width  the width the image is intended to be displayed at.
+     * @param height the height the image is intended to be displayed at.
+     * @return the deserialized preview as an {@link Image} object.
+     * @throws IOException if the deserialization fails or the buffer does not contain valid image data.
+     */
+    @Override
+    public Image preview(ByteBuffer bytes, int width, int height) throws IOException {
+        int previewWidth = Math.max(1, width / PREVIEW_RATIO);
+        int previewHeight = Math.max(1, height / PREVIEW_RATIO);
+        return format.convert(read(bytes, reader -> {
+            Image thumbnail = thumbnailOf(reader, previewWidth, previewHeight);
+            if (thumbnail != null) return thumbnail;
+            int subsampling = subsamplingFor(reader.getWidth(0), reader.getHeight(0), previewWidth, previewHeight);
+            if (isProgressiveJpeg(reader)) reader.addIIOReadUpdateListener(new FirstScanListener());
+            return decode(reader, subsampled(reader.getDefaultReadParam(), subsampling));
+        }));
+    }
+
+    /**
+     * Computes the largest integral subsampling factor that keeps an image of the given source size
+     * at least as large as the given target size in both dimensions.
+     *
+     * @param sourceWidth  the width of the source image
+     * @param sourceHeight the height of the source image
+     * @param width        the target width
+     * @param height       the target height
+     * @return the subsampling factor, at least {@code 1}
+     */
+    public static int subsamplingFor(int sourceWidth, int sourceHeight, int width, int height) {
+        if (width <= 0 || height <= 0) return 1;
+        return Math.max(1, Math.min(sourceWidth / width, sourceHeight / height));
+    }
+
+    private static Image measured(long start, Image image) {
+        Metrics.global().decode().recordSince(start);
+        if (image != null) Metrics.global().addBytesDecoded(DecodedImageCache.sizeOf(image));
+        return image;
+    }
+
+    private static <T> T read(ByteBuffer bytes, ReaderFunction<T> function) throws IOException {
+        try (ImageInputStream input = new ByteBufferImageInputStream(bytes)) {
+            ImageReader reader = ImageReaderPool.global().acquire(input);
+            T result;
+            try {
+                reader.setInput(input, true, true);
+                result = function.apply(reader);
+            } catch (Exception e) {
+                ImageReaderPool.global().discard(reader);
+                throw e;
+            }
+            ImageReaderPool.global().release(reader);
+            return result;
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static Image decode(ImageReader reader, ImageReadParam param) throws IOException {
+        long start = System.nanoTime();
+        CancellationListener cancellation = new CancellationListener();
+        reader.addIIOReadProgressListener(cancellation);
+        Image image = reader.read(0, param);
+        if (cancellation.cancelled) throw new InterruptedIOException("Decoding was cancelled");
+        return measured(start, image);
+    }
+
+    private static Image thumbnailOf(ImageReader reader, int width, int height) throws IOException {
+        if (!reader.readerSupportsThumbnails() || reader.getNumThumbnails(0) == 0) return null;
+        if (reader.getThumbnailWidth(0, 0) < width || reader.getThumbnailHeight(0, 0) < height) return null;
+        long start = System.nanoTime();
+        return measured(start, reader.readThumbnail(0, 0));
+    }
+
+    private static boolean isProgressiveJpeg(ImageReader reader) throws IOException {
+        if (!"jpeg".equalsIgnoreCase(reader.getFormatName())) return false;
+        IIOMetadata metadata = reader.getImageMetadata(0);
+        if (metadata == null || !JPEG_METADATA.equals(metadata.getNativeMetadataFormatName())) return false;
+        Node markers = childNamed(metadata.getAsTree(JPEG_METADATA), "markerSequence");
+        Node frame = markers == null ? null : childNamed(markers, "sof");
+        return frame != null && "2".equals(((Element) frame).getAttribute("process"));
+    }
+
+    private static Node childNamed(Node parent, String name) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling())
+            if (name.equals(node.getNodeName())) return node;
+        return null;
+    }
+
+    private static boolean fits(ImageReader reader, int subsampling, BufferedImage destination) throws IOException {
+        if (destination == null || destination.getType() == BufferedImage.TYPE_CUSTOM) return false;
+        if (destination.getWidth() != (reader.getWidth(0) + subsampling - 1) / subsampling) return false;
+        if (destination.getHeight() != (reader.getHeight(0) + subsampling - 1) / subsampling) return false;
+        Iterator<ImageTypeSpecifier> types = reader.getImageTypes(0);
+        return types.hasNext() && types.next().getBufferedImageType() == destination.getType();
+    }
+
+    private static ImageReadParam subsampled(ImageReadParam param, int subsampling) {
+        param.setSourceSubsampling(Math.max(1, subsampling), Math.max(1, subsampling), 0, 0);
+        return param;
+    }
+
+    private static final class FirstScanListener implements IIOReadUpdateListener {
+        @Override
+        public void passStarted(ImageReader source, BufferedImage image, int pass, int minPass, int maxPass,
+                                int minX, int minY, int periodX, int periodY, int[] bands) {
+        }
+
+        @Override
+        public void imageUpdate(ImageReader source, BufferedImage image, int minX, int minY, int width, int height,
+                                int periodX, int periodY, int[] bands) {
+        }
+
+        @Override
+        public void passComplete(ImageReader source, BufferedImage image) {
+            source.abort();
+        }
+
+        @Override
+        public void thumbnailPassStarted(ImageReader source, BufferedImage thumbnail, int pass, int minPass, int maxPass,
+                                         int minX, int minY, int periodX, int periodY, int[] bands) {
+        }
+
+        @Override
+        public void thumbnailUpdate(ImageReader source, BufferedImage thumbnail, int minX, int minY, int width, int height,
+                                    int periodX, int periodY, int[] bands) {
+        }
+
+        @Override
+        public void thumbnailPassComplete(ImageReader source, BufferedImage thumbnail) {
+        }
+    }
+
+    private static final class CancellationListener implements IIOReadProgressListener {
+        private boolean cancelled;
+
+        @Override
+        public void imageStarted(ImageReader source, int imageIndex) {
+            cancelIfInterrupted(source);
+        }
+
+        @Override
+        public void imageProgress(ImageReader source, float percentageDone) {
+            cancelIfInterrupted(source);
+        }
+
+        @Override
+        public void sequenceStarted(ImageReader source, int minIndex) {
+        }
+
+        @Override
+        public void sequenceComplete(ImageReader source) {
+        }
+
+        @Override
+        public void imageComplete(ImageReader source) {
+        }
+
+        @Override
+        public void thumbnailStarted(ImageReader source, int imageIndex, int thumbnailIndex) {
+        }
+
+        @Override
+        public void thumbnailProgress(ImageReader source, float percentageDone) {
+        }
+
+        @Override
+        public void thumbnailComplete(ImageReader source) {
+        }
+
+        @Override
+        public void readAborted(ImageReader source) {
+        }
+
+        private void cancelIfInterrupted(ImageReader source) {
+            if (cancelled || !Thread.currentThread().isInterrupted()) return;
+            cancelled = true;
+            source.abort();
+        }
+    }
+
+    private interface ReaderFunction<T> {
+        T apply(ImageReader reader) throws IOException;
+    }
+}
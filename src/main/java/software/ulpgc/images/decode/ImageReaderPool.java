@@ -0,0 +1,128 @@
+package software.ulpgc.images.decode;
+
+import javax.imageio.ImageReader;
+import javax.imageio.spi.IIORegistry;
+import javax.imageio.spi.ImageReaderSpi;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-thread pools of {@link ImageReader}s, one pool per image format.
+ * <p>
+ * {@code ImageIO.read} looks the reader up in the service registry and creates a new reader for
+ * every image it decodes. This pool resolves the reader providers once, tries the provider that
+ * matched last on the calling thread first, and hands out a reader that was used before on the same
+ * thread whenever one is idle. Since each thread owns its readers, no locking is involved.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class ImageReaderPool {
+    private static final int MAXIMUM_IDLE = 2;
+    private static final ImageReaderPool GLOBAL = new ImageReaderPool();
+
+    private final List<ImageReaderSpi> providers = providers();
+    private final ThreadLocal<Map<ImageReaderSpi, Deque<ImageReader>>> idle = ThreadLocal.withInitial(HashMap::new);
+    private final ThreadLocal<ImageReaderSpi> lastProvider = new ThreadLocal<>();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+
+    /**
+     * Returns the pool shared by the whole application.
+     *
+     * @return the global {@code ImageReaderPool}
+     */
+    public static ImageReaderPool global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns an idle reader of the calling thread able to decode the given input, or a new one if
+     * none is idle. The reader must be handed back with {@link #release(ImageReader)} or
+     * {@link #discard(ImageReader)} on the same thread.
+     *
+     * @param input the input to be decoded, left at its current position
+     * @return an {@link ImageReader} for the format of the input, without input set
+     * @throws IOException if the input cannot be read or no reader can decode it
+     */
+    public ImageReader acquire(ImageInputStream input) throws IOException {
+        ImageReaderSpi provider = providerFor(input);
+        ImageReader reader = idle.get().computeIfAbsent(provider, _ -> new ArrayDeque<>()).pollFirst();
+        if (reader != null) {
+            reused.incrementAndGet();
+            return reader;
+        }
+        created.incrementAndGet();
+        return provider.createReaderInstance();
+    }
+
+    /**
+     * Resets the given reader and returns it to the pool of the calling thread.
+     *
+     * @param reader the reader to release
+     */
+    public void release(ImageReader reader) {
+        reader.reset();
+        Deque<ImageReader> readers = idle.get().computeIfAbsent(reader.getOriginatingProvider(), _ -> new ArrayDeque<>());
+        if (readers.size() < MAXIMUM_IDLE) readers.addFirst(reader);
+        else reader.dispose();
+    }
+
+    /**
+     * Disposes of the given reader instead of returning it to the pool, for readers left in an
+     * unknown state by a failed decode.
+     *
+     * @param reader the reader to discard
+     */
+    public void discard(ImageReader reader) {
+        reader.dispose();
+    }
+
+    /**
+     * Returns the number of readers created by this pool.
+     *
+     * @return the number of readers created
+     */
+    public long createdCount() {
+        return created.get();
+    }
+
+    /**
+     * Returns the number of times an idle reader was handed out again.
+     *
+     * @return the number of readers reused
+     */
+    public long reusedCount() {
+        return reused.get();
+    }
+
+    // Private helper methods for resolving providers
+
+    private ImageReaderSpi providerFor(ImageInputStream input) throws IOException {
+        ImageReaderSpi last = lastProvider.get();
+        if (last != null && last.canDecodeInput(input)) return last;
+        for (ImageReaderSpi provider : providers) {
+            if (provider == last || !provider.canDecodeInput(input)) continue;
+            lastProvider.set(provider);
+            return provider;
+        }
+        throw new IOException("No image reader found for the given data");
+    }
+
+    private static List<ImageReaderSpi> providers() {
+        List<ImageReaderSpi> providers = new ArrayList<>();
+        Iterator<ImageReaderSpi> iterator = IIORegistry.getDefaultInstance().getServiceProviders(ImageReaderSpi.class, true);
+        iterator.forEachRemaining(providers::add);
+        return List.copyOf(providers);
+    }
+}
@@ -0,0 +1,35 @@
+package software.ulpgc.images.fetch;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The outcome of a batch of requests made by a {@link ConcurrentFetcher}. Successful downloads are
+ * kept even if other requests of the batch failed.
+ *
+ * @param results the result of every request, in request order
+ * @param elapsed the wall-clock time of the whole batch
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record FetchReport(List<FetchResult> results, Duration elapsed) {
+    /**
+     * Returns the downloaded contents of the successful requests, in request order.
+     *
+     * @return the list of downloaded contents
+     */
+    public List<byte[]> contents() {
+        return results.stream().filter(FetchResult::isSuccess).map(FetchResult::content).toList();
+    }
+
+    /**
+     * Returns the results of the failed requests, in request order.
+     *
+     * @return the list of failed {@link FetchResult}s
+     */
+    public List<FetchResult> failures() {
+        return results.stream().filter(r -> !r.isSuccess()).toList();
+    }
+}
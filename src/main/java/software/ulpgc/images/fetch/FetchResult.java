@@ -0,0 +1,55 @@
+package software.ulpgc.images.fetch;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * The outcome of fetching a single resource with a {@link ConcurrentFetcher}.
+ * Exactly one of {@code content} and {@code error} is non-null.
+ *
+ * @param index   the position of the request in the batch
+ * @param uri     the requested {@link URI}
+ * @param content the downloaded bytes, or {@code null} if the request failed
+ * @param error   the failure cause, or {@code null} if the request succeeded
+ * @param elapsed the time spent on the request, including waiting for a free slot
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record FetchResult(int index, URI uri, byte[] content, Exception error, Duration elapsed) {
+    /**
+     * Creates a successful {@code FetchResult}.
+     *
+     * @param index   the position of the request in the batch
+     * @param uri     the requested {@link URI}
+     * @param content the downloaded bytes
+     * @param elapsed the time spent on the request
+     * @return a new successful {@code FetchResult}
+     */
+    public static FetchResult success(int index, URI uri, byte[] content, Duration elapsed) {
+        return new FetchResult(index, uri, content, null, elapsed);
+    }
+
+    /**
+     * Creates a failed {@code FetchResult}.
+     *
+     * @param index   the position of the request in the batch
+     * @param uri     the requested {@link URI}
+     * @param error   the failure cause
+     * @param elapsed the time spent on the request
+     * @return a new failed {@code FetchResult}
+     */
+    public static FetchResult failure(int index, URI uri, Exception error, Duration elapsed) {
+        return new FetchResult(index, uri, null, error, elapsed);
+    }
+
+    /**
+     * Checks whether the request succeeded.
+     *
+     * @return {@code true} if the content was downloaded
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
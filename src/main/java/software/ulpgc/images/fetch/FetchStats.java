@@ -0,0 +1,16 @@
+package software.ulpgc.images.fetch;
+
+/**
+ * A snapshot of the statistics of an {@link HttpFetcher}.
+ *
+ * @param requests     the number of requests sent, including retries and redirects
+ * @param retries      the number of attempts retried after a transient failure
+ * @param redirectHits the number of redirects skipped because their target was remembered
+ * @param notModified  the number of responses revalidated with {@code 304 Not Modified}
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record FetchStats(long requests, long retries, long redirectHits, long notModified) {
+}
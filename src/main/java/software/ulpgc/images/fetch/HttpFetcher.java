@@ -0,0 +1,279 @@
+package software.ulpgc.images.fetch;
+
+import software.ulpgc.images.store.ImageStore;
+
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Downloads resources over HTTP with a single {@link HttpClient}, so every request shares its
+ * connection pool and, with servers that support it, multiplexes over HTTP/2 connections.
+ * <p>
+ * Requests are asynchronous. Failures that may be transient, such as connection errors, timeouts,
+ * {@code 429} and {@code 5xx} responses, are retried a bounded number of times after an exponential
+ * backoff with random jitter, so that clients failing together do not retry together. Redirects are
+ * followed by the fetcher itself: permanent redirects, and redirects that declare a {@code max-age},
+ * are remembered, so later requests go straight to their target. Temporary redirects without a
+ * lifetime, such as those of a source that redirects to a random image, are followed every time.
+ * A fetcher given an {@link ImageStore} also revalidates: the bodies of responses that carry an
+ * {@code ETag} are put in the store, and the fetcher only remembers the tag and the content hash of
+ * each resource. The resource is requested again with {@code If-None-Match}, so an unchanged resource
+ * is answered with an empty {@code 304} response and its body is read back from the store. A body
+ * evicted from the store is simply downloaded again.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class HttpFetcher implements AutoCloseable {
+    /**
+     * The default number of attempts of a request, including the first one.
+     */
+    public static final int DEFAULT_ATTEMPTS = 3;
+    /**
+     * The default delay before the first retry, doubled for every further retry.
+     */
+    public static final Duration DEFAULT_BACKOFF = Duration.ofMillis(200);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAXIMUM_REDIRECTS = 5;
+    private static final int MAXIMUM_VALIDATED = 4096;
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final HttpFetcher GLOBAL = new HttpFetcher(DEFAULT_ATTEMPTS, DEFAULT_BACKOFF);
+
+    private final HttpClient client;
+    private final int attempts;
+    private final Duration backoff;
+    private final ImageStore store;
+    private final Map<URI, Redirect> redirects = new ConcurrentHashMap<>();
+    private final Map<URI, Validated> validated = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<URI, Validated> eldest) {
+            return size() > MAXIMUM_VALIDATED;
+        }
+    };
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong redirectHits = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+
+    /**
+     * Constructs a new {@code HttpFetcher} that does not revalidate resources.
+     *
+     * @param attempts the number of attempts of a request, including the first one
+     * @param backoff  the delay before the first retry
+     * @throws IllegalArgumentException if the number of attempts is not positive, or the backoff is negative
+     */
+    public HttpFetcher(int attempts, Duration backoff) {
+        this(attempts, backoff, null);
+    }
+
+    /**
+     * Constructs a new {@code HttpFetcher} that revalidates resources with an {@code ETag}, keeping
+     * their bodies in the given store.
+     *
+     * @param attempts the number of attempts of a request, including the first one
+     * @param backoff  the delay before the first retry
+     * @param store    the {@link ImageStore} the revalidated bodies are kept in, or {@code null} not to revalidate
+     * @throws IllegalArgumentException if the number of attempts is not positive, or the backoff is negative
+     */
+    public HttpFetcher(int attempts, Duration backoff, ImageStore store) {
+        if (attempts < 1 || backoff.isNegative())
+            throw new IllegalArgumentException("Invalid retry policy: " + attempts + " attempts after " + backoff);
+        this.attempts = attempts;
+        this.backoff = backoff;
+        this.store = store;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * Returns the fetcher shared by the whole application, with the default retry policy.
+     *
+     * @return the global {@code HttpFetcher}
+     */
+    public static HttpFetcher global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Downloads the given resource asynchronously.
+     *
+     * @param uri     the resource to download
+     * @param timeout the timeout of each attempt, from sending the request to receiving the whole body
+     * @return a {@link CompletableFuture} completed with the bytes of the resource, or completed
+     *         exceptionally with an {@link IOException} once every attempt failed
+     */
+    public CompletableFuture<byte[]> fetch(URI uri, Duration timeout) {
+        return attempt(uri, timeout, 1);
+    }
+
+    /**
+     * Returns the statistics of this fetcher.
+     *
+     * @return a {@link FetchStats} snapshot
+     */
+    public FetchStats stats() {
+        return new FetchStats(requests.get(), retries.get(), redirectHits.get(), notModified.get());
+    }
+
+    /**
+     * Closes the connections of this fetcher once the requests in flight are complete.
+     */
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    // Private helper methods for sending requests
+
+    private CompletableFuture<byte[]> attempt(URI uri, Duration timeout, int attempt) {
+        return follow(uri, uri, timeout, 0).exceptionallyCompose(error -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (attempt >= attempts || !isTransient(cause)) return CompletableFuture.failedFuture(cause);
+            retries.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> null, CompletableFuture.delayedExecutor(delayBefore(attempt), TimeUnit.NANOSECONDS))
+                    .thenCompose(_ -> attempt(uri, timeout, attempt + 1));
+        });
+    }
+
+    private CompletableFuture<byte[]> follow(URI origin, URI uri, Duration timeout, int hops) {
+        Redirect redirect = redirects.get(uri);
+        if (redirect != null && redirect.isFresh()) {
+            redirectHits.incrementAndGet();
+            return follow(origin, redirect.target(), timeout, hops + 1).exceptionallyCompose(_ -> {
+                redirects.remove(uri, redirect);
+                return follow(origin, uri, timeout, hops);
+            });
+        }
+        if (redirect != null) redirects.remove(uri);
+        Validated cached = validatedOf(uri);
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).timeout(timeout).GET();
+        if (cached != null) request.header("If-None-Match", cached.etag());
+        requests.incrementAndGet();
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenCompose(response -> handle(origin, uri, response, cached, timeout, hops));
+    }
+
+    private CompletableFuture<byte[]> handle(URI origin, URI uri, HttpResponse<byte[]> response, Validated cached, Duration timeout, int hops) {
+        int status = response.statusCode();
+        if (status == 304 && cached != null) {
+            byte[] content = stored(cached);
+            if (content == null) {
+                forget(uri);
+                return follow(origin, uri, timeout, hops);
+            }
+            notModified.incrementAndGet();
+            return CompletableFuture.completedFuture(content);
+        }
+        if (status >= 300 && status < 400 && response.headers().firstValue("Location").isPresent()) {
+            if (hops >= MAXIMUM_REDIRECTS) return CompletableFuture.failedFuture(new ProtocolException("Too many redirects from " + origin));
+            URI target = uri.resolve(response.headers().firstValue("Location").get());
+            remember(uri, target, status, response);
+            return follow(origin, target, timeout, hops + 1);
+        }
+        if (status >= 400) return CompletableFuture.failedFuture(new HttpStatusException(status, uri));
+        response.headers().firstValue("ETag").ifPresent(etag -> validate(uri, etag, response.body()));
+        return CompletableFuture.completedFuture(response.body());
+    }
+
+    private void remember(URI uri, URI target, int status, HttpResponse<?> response) {
+        if (status == 301 || status == 308) redirects.put(uri, new Redirect(target, true, 0));
+        else maxAgeOf(response).ifPresent(age -> redirects.put(uri, new Redirect(target, false, System.nanoTime() + age.toNanos())));
+    }
+
+    private Validated validatedOf(URI uri) {
+        if (store == null) return null;
+        Validated cached;
+        synchronized (validated) {
+            cached = validated.get(uri);
+        }
+        return cached != null && store.contains(cached.hash()) ? cached : null;
+    }
+
+    private void validate(URI uri, String etag, byte[] content) {
+        if (store == null) return;
+        try {
+            Validated entry = new Validated(etag, store.put(content));
+            synchronized (validated) {
+                validated.put(uri, entry);
+            }
+        } catch (IOException e) {
+            forget(uri);
+        }
+    }
+
+    private void forget(URI uri) {
+        synchronized (validated) {
+            validated.remove(uri);
+        }
+    }
+
+    private byte[] stored(Validated cached) {
+        try {
+            ByteBuffer buffer = store.get(cached.hash());
+            if (buffer == null) return null;
+            byte[] content = new byte[buffer.remaining()];
+            buffer.get(content);
+            return content;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private long delayBefore(int attempt) {
+        long base = backoff.toNanos() << (attempt - 1);
+        return (long) (base * ThreadLocalRandom.current().nextDouble(0.5, 1.5));
+    }
+
+    private static boolean isTransient(Throwable error) {
+        if (error instanceof HttpStatusException response) return response.status == 429 || response.status >= 500;
+        return error instanceof IOException && !(error instanceof ProtocolException);
+    }
+
+    private static Optional<Duration> maxAgeOf(HttpResponse<?> response) {
+        String control = response.headers().firstValue("Cache-Control").orElse("");
+        if (control.contains("no-store") || control.contains("no-cache")) return Optional.empty();
+        Matcher matcher = MAX_AGE.matcher(control);
+        if (!matcher.find() || Long.parseLong(matcher.group(1)) == 0) return Optional.empty();
+        return Optional.of(Duration.ofSeconds(Long.parseLong(matcher.group(1))));
+    }
+
+    private record Redirect(URI target, boolean permanent, long expiresAt) {
+        private boolean isFresh() {
+            return permanent || expiresAt - System.nanoTime() > 0;
+        }
+    }
+
+    private record Validated(String etag, String hash) {
+    }
+
+    private static final class HttpStatusException extends IOException {
+        private final int status;
+
+        private HttpStatusException(int status, URI uri) {
+            super("HTTP " + status + " for " + uri);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package software.ulpgc.images.filesystem;
+
+import software.ulpgc.images.architecture.io.RegionDeserializer;
+import software.ulpgc.images.architecture.io.ImageLoader;
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.cache.DecodedImageCache;
+import software.ulpgc.images.decode.ImageDeserializer;
+import software.ulpgc.images.decode.ImageReaderPool;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A loader that browses the image files of a local directory tree.
+ * <p>
+ * The directory is walked with NIO on a background thread, and the headers of the discovered files
+ * are read in parallel on a {@link ForkJoinPool} to build an index of paths and dimensions without
+ * decoding any pixels. Every directory is walked in the order of the names of its entries, so the
+ * images are indexed in the same order on every run. The first image is available as soon as it has
+ * been indexed, while the rest of the tree is still being scanned. The bytes of each image are read
+ * lazily through a memory-mapped view of its file when its content is requested.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class FileSystemImageLoader implements ImageLoader {
+    private static final int BATCH_SIZE = 256;
+    private static final int SEQUENTIAL_THRESHOLD = 16;
+    private static final Set<String> SUFFIXES = Set.of(ImageIO.getReaderFileSuffixes());
+
+    private final Path root;
+    private final RegionDeserializer<ByteBuffer> deserializer;
+    private final DecodedImageCache cache;
+    private final ForkJoinPool pool;
+    private final List<IndexedImage> index = Collections.synchronizedList(new ArrayList<>());
+    private final CompletableFuture<Void> firstImage = new CompletableFuture<>();
+    private final CompletableFuture<Void> scan = new CompletableFuture<>();
+
+    /**
+     * Constructs a new {@code FileSystemImageLoader} that browses the given directory and
+     * starts scanning it immediately.
+     *
+     * @param root the directory to browse
+     */
+    public FileSystemImageLoader(Path root) {
+        this(root, new DecodedImageCache(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new {@code FileSystemImageLoader} that browses the given directory and
+     * starts scanning it immediately.
+     *
+     * @param root  the directory to browse
+     * @param cache the {@link DecodedImageCache} for decoded images
+     * @param pool  the {@link ForkJoinPool} that reads the image headers
+     */
+    public FileSystemImageLoader(Path root, DecodedImageCache cache, ForkJoinPool pool) {
+        this.root = root;
+        this.deserializer = new ImageDeserializer();
+        this.cache = cache;
+        this.pool = pool;
+        Thread.ofPlatform().daemon().name("filesystem-scanner").start(this::walk);
+    }
+
+    /**
+     * Loads the first indexed {@link Picture}, waiting until it has been indexed or the scan has
+     * finished without finding any image.
+     *
+     * @return the first {@link Picture}, or {@link Picture#None} if the directory holds no images.
+     */
+    @Override
+    public Picture load() {
+        CompletableFuture.anyOf(firstImage, scan).join();
+        return index.isEmpty() ? Picture.None : imageAt(0);
+    }
+
+    /**
+     * Loads the {@link Picture} at the given position of the index, without decoding any image.
+     *
+     * @param position the position of the image in scan order
+     * @return the {@link Picture} at the position, or {@link Picture#None} if it has not been indexed yet.
+     */
+    @Override
+    public Picture load(int position) {
+        return position >= 0 && position < index.size() ? imageAt(position) : Picture.None;
+    }
+
+    /**
+     * Returns the number of images indexed so far, which grows while the tree is scanned.
+     *
+     * @return the number of indexed images
+     */
+    @Override
+    public int count() {
+        return index.size();
+    }
+
+    /**
+     * Returns a snapshot of the images indexed so far, in scan order.
+     *
+     * @return the list of {@link IndexedImage}s
+     */
+    public List<IndexedImage> index() {
+        synchronized (index) {
+            return List.copyOf(index);
+        }
+    }
+
+    /**
+     * Returns a future that completes when the whole directory tree has been indexed.
+     *
+     * @return a {@link CompletableFuture} completed at the end of the scan
+     */
+    public CompletableFuture<Void> scan() {
+        return scan;
+    }
+
+    /**
+     * Retrieves a {@link Picture} at the specified position of the index. Navigation wraps
+     * around the images indexed at the time of the call.
+     *
+     * @param position the position of the desired image in the index.
+     * @return a {@link Picture} representing the image at the specified position.
+     */
+    private Picture imageAt(int position) {
+        IndexedImage image = index.get(position);
+        return new Picture() {
+            @Override
+            public String id() {
+                return "file:" + image.path().toAbsolutePath();
+            }
+
+            @Override
+            public Image content() {
+                try {
+                    return cache.get(id(), () -> deserializer.deserialize(map(image.path())));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public Image content(int width, int height) {
+                Image full = cache.peek(id());
+                if (full != null) return full;
+                if (image.width() <= width && image.height() <= height) return content();
+                int subsampling = ImageDeserializer.subsamplingFor(image.width(), image.height(), width, height);
+                try {
+                    return cache.get(id() + "@" + subsampling, () -> deserializer.deserialize(map(image.path()), width, height));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public boolean isDecoded(int width, int height) {
+                if (cache.peek(id()) != null) return true;
+                if (width <= 0 || height <= 0 || image.width() <= width && image.height() <= height) return false;
+                return cache.peek(id() + "@" + ImageDeserializer.subsamplingFor(image.width(), image.height(), width, height)) != null;
+            }
+
+            @Override
+            public Image preview(int width, int height) {
+                Image ready = cache.peek(id());
+                if (ready == null) ready = cache.peek(id() + "@" + ImageDeserializer.subsamplingFor(image.width(), image.height(), width, height));
+                if (ready != null) return ready;
+                try {
+                    return cache.get(id() + "@preview", () -> deserializer.preview(map(image.path()), width, height));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public Dimension dimensions() {
+                return new Dimension(image.width(), image.height());
+            }
+
+            @Override
+            public Image region(Rectangle region, int subsampling) {
+                try {
+                    return deserializer.deserialize(map(image.path()), region, subsampling);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public Picture next() {
+                return imageAt((position + 1) % index.size());
+            }
+
+            @Override
+            public Picture previous() {
+                return imageAt(position > 0 ? position - 1 : index.size() - 1);
+            }
+        };
+    }
+
+    // Private helper methods for scanning and indexing
+
+    private void walk() {
+        try {
+            List<Path> batch = new ArrayList<>();
+            visit(root, batch);
+            flush(batch);
+            scan.complete(null);
+        } catch (RuntimeException e) {
+            scan.completeExceptionally(e);
+        }
+    }
+
+    private void visit(Path path, List<Path> batch) {
+        BasicFileAttributes attributes = attributesOf(path);
+        if (attributes == null) return;
+        if (attributes.isDirectory()) {
+            for (Path entry : sortedEntriesOf(path)) visit(entry, batch);
+            return;
+        }
+        if (attributes.isRegularFile() && isImage(path)) batch.add(path);
+        if (batch.size() >= (index.isEmpty() ? 1 : BATCH_SIZE)) flush(batch);
+    }
+
+    private void flush(List<Path> batch) {
+        if (batch.isEmpty()) return;
+        index.addAll(pool.invoke(new HeaderTask(List.copyOf(batch))));
+        batch.clear();
+        if (!index.isEmpty()) firstImage.complete(null);
+    }
+
+    private static List<Path> sortedEntriesOf(Path directory) {
+        List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            stream.forEach(entries::add);
+        } catch (IOException | DirectoryIteratorException e) {
+            return List.of();
+        }
+        entries.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        return entries;
+    }
+
+    private static BasicFileAttributes attributesOf(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static boolean isImage(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot >= 0 && SUFFIXES.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static IndexedImage readHeader(Path path) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) return null;
+            ImageReader reader = ImageReaderPool.global().acquire(input);
+            try {
+                reader.setInput(input, true, true);
+                return new IndexedImage(path, reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                ImageReaderPool.global().release(reader);
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class HeaderTask extends RecursiveTask<List<IndexedImage>> {
+        private final List<Path> paths;
+
+        private HeaderTask(List<Path> paths) {
+            this.paths = paths;
+        }
+
+        @Override
+        protected List<IndexedImage> compute() {
+            if (paths.size() <= SEQUENTIAL_THRESHOLD) return readHeaders();
+            HeaderTask left = new HeaderTask(paths.subList(0, paths.size() / 2));
+            HeaderTask right = new HeaderTask(paths.subList(paths.size() / 2, paths.size()));
+            left.fork();
+            List<IndexedImage> images = new ArrayList<>(right.compute());
+            images.addAll(0, left.join());
+            return images;
+        }
+
+        private List<IndexedImage> readHeaders() {
+            List<IndexedImage> images = new ArrayList<>(paths.size());
+            for (Path path : paths) {
+                IndexedImage image = readHeader(path);
+                if (image != null) images.add(image);
+            }
+            return images;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package software.ulpgc.images.filesystem;
+
+import java.nio.file.Path;
+
+/**
+ * An entry of the index built by a {@link FileSystemImageLoader}, holding the location of an image
+ * file and the dimensions read from its header.
+ *
+ * @param path   the path of the image file
+ * @param width  the width of the image in pixels
+ * @param height the height of the image in pixels
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record IndexedImage(Path path, int width, int height) {
+}
@@ -0,0 +1,81 @@
+package software.ulpgc.images.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface exposing the {@link Metrics} of the image viewer through JMX.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public interface ImageViewerMetricsMXBean {
+    /**
+     * Returns the latencies of every instrumented operation, keyed by {@code operation.statistic},
+     * where the statistic is one of {@code count}, {@code p50}, {@code p99} or {@code max}.
+     *
+     * @return the latencies in milliseconds, and the counts of operations
+     */
+    Map<String, Double> getLatencyMillis();
+
+    /**
+     * Returns the number of compressed bytes fetched from the network.
+     *
+     * @return the number of bytes fetched
+     */
+    long getBytesFetched();
+
+    /**
+     * Returns the number of raster bytes produced by decoding.
+     *
+     * @return the number of bytes decoded
+     */
+    long getBytesDecoded();
+
+    /**
+     * Returns the number of times the event dispatch thread was found stalled.
+     *
+     * @return the number of stalls
+     */
+    long getEventDispatchThreadStalls();
+
+    /**
+     * Returns the number of display paints that took longer than their budget.
+     *
+     * @return the number of slow paints
+     */
+    long getSlowPaints();
+
+    /**
+     * Returns the number of pictures that could not be decoded for display.
+     *
+     * @return the number of decode failures
+     */
+    long getDecodeFailures();
+
+    /**
+     * Returns the registered ratios, such as cache hit ratios.
+     *
+     * @return the ratios keyed by name
+     */
+    Map<String, Double> getRatios();
+
+    /**
+     * Returns the registered gauges, such as the number of bytes saved by deduplication.
+     *
+     * @return the gauges keyed by name
+     */
+    Map<String, Long> getGauges();
+
+    /**
+     * Returns a human-readable dump of every metric.
+     *
+     * @return the dump of the metrics
+     */
+    String dump();
+
+    /**
+     * Resets every latency histogram and counter.
+     */
+    void reset();
+}
@@ -0,0 +1,25 @@
+package software.ulpgc.images.metrics;
+
+/**
+ * An immutable snapshot of a {@link LatencyHistogram}.
+ *
+ * @param count the number of recorded latencies
+ * @param p50   the median latency in nanoseconds
+ * @param p99   the 99th percentile latency in nanoseconds
+ * @param max   the maximum latency in nanoseconds
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record LatencySnapshot(long count, long p50, long p99, long max) {
+    /**
+     * Formats the snapshot with the latencies in milliseconds.
+     *
+     * @return a human-readable summary of the snapshot
+     */
+    @Override
+    public String toString() {
+        return "n=%d p50=%.2fms p99=%.2fms max=%.2fms".formatted(count, p50 / 1e6, p99 / 1e6, max / 1e6);
+    }
+}
@@ -0,0 +1,340 @@
+package software.ulpgc.images.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.swing.*;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * The runtime metrics of the image viewer: latency histograms of the fetch, decode and paint paths,
+ * byte counters, registered ratios such as cache hit ratios, registered gauges such as the number of
+ * bytes saved by deduplication, and event dispatch thread stalls.
+ * <p>
+ * Recording a metric is lock-free and allocation-free, so the instrumentation can stay on in
+ * production. The metrics are exposed through the {@link ImageViewerMetricsMXBean} once
+ * {@link #registerMBean()} is called, and can be logged periodically with {@link #startLogging(Duration)}.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class Metrics implements ImageViewerMetricsMXBean {
+    /**
+     * The name of the MBean registered by {@link #registerMBean()}.
+     */
+    public static final String OBJECT_NAME = "software.ulpgc.images:type=Metrics";
+    private static final Metrics GLOBAL = new Metrics();
+    private static final System.Logger LOGGER = System.getLogger(Metrics.class.getName());
+
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, DoubleSupplier> ratios = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final LongAdder bytesFetched = new LongAdder();
+    private final LongAdder bytesDecoded = new LongAdder();
+    private final LongAdder stalls = new LongAdder();
+    private final LongAdder slowPaints = new LongAdder();
+    private final LongAdder decodeFailures = new LongAdder();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(Metrics::daemonThread);
+
+    /**
+     * Returns the metrics shared by the whole application.
+     *
+     * @return the global {@code Metrics}
+     */
+    public static Metrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the latency histogram of the given operation, creating it if needed.
+     *
+     * @param operation the name of the operation, such as {@code "fetch"}
+     * @return the {@link LatencyHistogram} of the operation
+     */
+    public LatencyHistogram latency(String operation) {
+        return latencies.computeIfAbsent(operation, _ -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the latency histogram of network fetches.
+     *
+     * @return the fetch {@link LatencyHistogram}
+     */
+    public LatencyHistogram fetch() {
+        return latency("fetch");
+    }
+
+    /**
+     * Returns the latency histogram of image decodes.
+     *
+     * @return the decode {@link LatencyHistogram}
+     */
+    public LatencyHistogram decode() {
+        return latency("decode");
+    }
+
+    /**
+     * Returns the latency histogram of display paints.
+     *
+     * @return the paint {@link LatencyHistogram}
+     */
+    public LatencyHistogram paint() {
+        return latency("paint");
+    }
+
+    /**
+     * Returns the latency histogram of the time from a navigation to the first pixel of the new
+     * picture being drawn.
+     *
+     * @return the time-to-first-pixel {@link LatencyHistogram}
+     */
+    public LatencyHistogram firstPixel() {
+        return latency("firstPixel");
+    }
+
+    /**
+     * Records a display paint that started at the given time, counting it as a slow paint if it took
+     * longer than the given budget.
+     *
+     * @param start  the {@link System#nanoTime()} at which the paint started
+     * @param budget the time a paint is expected to take at most
+     */
+    public void recordPaint(long start, Duration budget) {
+        long elapsed = System.nanoTime() - start;
+        paint().record(elapsed);
+        if (elapsed > budget.toNanos()) slowPaints.increment();
+    }
+
+    /**
+     * Counts a picture that could not be decoded for display.
+     */
+    public void recordDecodeFailure() {
+        decodeFailures.increment();
+    }
+
+    /**
+     * Adds the given number of bytes to the bytes fetched from the network.
+     *
+     * @param bytes the number of bytes fetched
+     */
+    public void addBytesFetched(long bytes) {
+        bytesFetched.add(bytes);
+    }
+
+    /**
+     * Adds the given number of bytes to the raster bytes produced by decoding.
+     *
+     * @param bytes the number of bytes decoded
+     */
+    public void addBytesDecoded(long bytes) {
+        bytesDecoded.add(bytes);
+    }
+
+    /**
+     * Registers a ratio, such as a cache hit ratio, under the given name. A ratio registered
+     * under an existing name replaces it.
+     *
+     * @param name  the name of the ratio
+     * @param ratio the supplier of the current value of the ratio
+     */
+    public void registerRatio(String name, DoubleSupplier ratio) {
+        ratios.put(name, ratio);
+    }
+
+    /**
+     * Registers a gauge, a count read when the metrics are exported, such as the number of bytes saved
+     * by deduplication, under the given name. A gauge registered under an existing name replaces it.
+     *
+     * @param name  the name of the gauge
+     * @param gauge the supplier of the current value of the gauge
+     */
+    public void registerGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Starts watching the event dispatch thread. Every period an empty task is posted to it, and the
+     * delay until it runs is recorded in the {@code "edt"} histogram; delays above the threshold are
+     * counted as stalls.
+     *
+     * @param period    the interval between probes
+     * @param threshold the delay above which the event dispatch thread is considered stalled
+     */
+    public void watchEventDispatchThread(Duration period, Duration threshold) {
+        scheduler.scheduleAtFixedRate(() -> probe(threshold.toNanos()), period.toNanos(), period.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Starts logging a dump of the metrics at the given interval.
+     *
+     * @param period the interval between dumps
+     */
+    public void startLogging(Duration period) {
+        scheduler.scheduleAtFixedRate(() -> LOGGER.log(System.Logger.Level.INFO, dump()), period.toNanos(), period.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registers these metrics in the platform MBean server under {@link #OBJECT_NAME}.
+     *
+     * @throws IllegalStateException if the MBean cannot be registered
+     */
+    public void registerMBean() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name))
+                ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the latencies of every instrumented operation, keyed by {@code operation.statistic}.
+     *
+     * @return the latencies in milliseconds, and the counts of operations
+     */
+    @Override
+    public Map<String, Double> getLatencyMillis() {
+        Map<String, Double> values = new TreeMap<>();
+        latencies.forEach((operation, histogram) -> {
+            LatencySnapshot snapshot = histogram.snapshot();
+            values.put(operation + ".count", (double) snapshot.count());
+            values.put(operation + ".p50", snapshot.p50() / 1e6);
+            values.put(operation + ".p99", snapshot.p99() / 1e6);
+            values.put(operation + ".max", snapshot.max() / 1e6);
+        });
+        return values;
+    }
+
+    /**
+     * Returns the number of compressed bytes fetched from the network.
+     *
+     * @return the number of bytes fetched
+     */
+    @Override
+    public long getBytesFetched() {
+        return bytesFetched.sum();
+    }
+
+    /**
+     * Returns the number of raster bytes produced by decoding.
+     *
+     * @return the number of bytes decoded
+     */
+    @Override
+    public long getBytesDecoded() {
+        return bytesDecoded.sum();
+    }
+
+    /**
+     * Returns the number of probes that found the event dispatch thread stalled.
+     *
+     * @return the number of stalls
+     */
+    @Override
+    public long getEventDispatchThreadStalls() {
+        return stalls.sum();
+    }
+
+    /**
+     * Returns the number of display paints that took longer than their budget.
+     *
+     * @return the number of slow paints
+     */
+    @Override
+    public long getSlowPaints() {
+        return slowPaints.sum();
+    }
+
+    /**
+     * Returns the number of pictures that could not be decoded for display.
+     *
+     * @return the number of decode failures
+     */
+    @Override
+    public long getDecodeFailures() {
+        return decodeFailures.sum();
+    }
+
+    /**
+     * Returns the current value of every registered ratio.
+     *
+     * @return the ratios keyed by name
+     */
+    @Override
+    public Map<String, Double> getRatios() {
+        Map<String, Double> values = new TreeMap<>();
+        ratios.forEach((name, ratio) -> values.put(name, ratio.getAsDouble()));
+        return values;
+    }
+
+    /**
+     * Returns the current value of every registered gauge.
+     *
+     * @return the gauges keyed by name
+     */
+    @Override
+    public Map<String, Long> getGauges() {
+        Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        return values;
+    }
+
+    /**
+     * Returns a human-readable dump of every metric, one per line.
+     *
+     * @return the dump of the metrics
+     */
+    @Override
+    public String dump() {
+        StringBuilder dump = new StringBuilder("Image viewer metrics:");
+        new TreeMap<>(latencies).forEach((operation, histogram) -> dump.append("\n  ").append(operation).append(": ").append(histogram.snapshot()));
+        dump.append("\n  bytes fetched: ").append(getBytesFetched());
+        dump.append("\n  bytes decoded: ").append(getBytesDecoded());
+        dump.append("\n  edt stalls: ").append(getEventDispatchThreadStalls());
+        dump.append("\n  slow paints: ").append(getSlowPaints());
+        dump.append("\n  decode failures: ").append(getDecodeFailures());
+        getRatios().forEach((name, value) -> dump.append("\n  ").append(name).append(": ").append("%.3f".formatted(value)));
+        getGauges().forEach((name, value) -> dump.append("\n  ").append(name).append(": ").append(value));
+        return dump.toString();
+    }
+
+    /**
+     * Resets every latency histogram and counter. Registered ratios and gauges are left untouched.
+     */
+    @Override
+    public void reset() {
+        latencies.values().forEach(LatencyHistogram::reset);
+        bytesFetched.reset();
+        bytesDecoded.reset();
+        stalls.reset();
+        slowPaints.reset();
+        decodeFailures.reset();
+    }
+
+    private void probe(long threshold) {
+        long posted = System.nanoTime();
+        SwingUtilities.invokeLater(() -> {
+            long delay = System.nanoTime() - posted;
+            latency("edt").record(delay);
+            if (delay > threshold) stalls.increment();
+        });
+    }
+
+    private static Thread daemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "metrics");
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,25 @@
+package software.ulpgc.images.metrics;
+
+import java.time.Duration;
+
+/**
+ * A milestone of the startup of the application.
+ *
+ * @param name  the name of the milestone
+ * @param since the time from the start of the virtual machine to the milestone
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record Milestone(String name, Duration since) {
+    /**
+     * Formats the milestone with its time in milliseconds.
+     *
+     * @return a human-readable summary of the milestone
+     */
+    @Override
+    public String toString() {
+        return "%s=%dms".formatted(name, since.toMillis());
+    }
+}
@@ -0,0 +1,123 @@
+package software.ulpgc.images.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Records the milestones of the startup of the application, measured from the start of the virtual
+ * machine: entering {@code main}, showing the window, receiving the bytes of the first image and
+ * painting it.
+ * <p>
+ * Only the first time a milestone is reached is recorded, so the places that reach it may mark it
+ * every time. Marking {@link #FIRST_IMAGE_PAINTED} completes the timeline: every milestone is then
+ * recorded in the {@code startup.} latencies of the {@link Metrics} and the timeline is logged.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class StartupTimeline {
+    /**
+     * The start of the virtual machine, the origin of the timeline.
+     */
+    public static final String JVM_START = "jvmStart";
+    /**
+     * The entry into the {@code main} method.
+     */
+    public static final String MAIN = "main";
+    /**
+     * The window made visible, with a placeholder instead of an image.
+     */
+    public static final String WINDOW_SHOWN = "windowShown";
+    /**
+     * The bytes of the first image available for decoding, downloaded or read from a store.
+     */
+    public static final String FIRST_BYTES = "firstBytes";
+    /**
+     * The first image painted in the window, which completes the timeline.
+     */
+    public static final String FIRST_IMAGE_PAINTED = "firstImagePainted";
+    private static final System.Logger LOGGER = System.getLogger(StartupTimeline.class.getName());
+    private static final StartupTimeline GLOBAL = new StartupTimeline(jvmStart());
+
+    private final long origin;
+    private final Map<String, Long> milestones = new LinkedHashMap<>();
+    private final CompletableFuture<List<Milestone>> completion = new CompletableFuture<>();
+
+    /**
+     * Constructs a new {@code StartupTimeline} with the given origin.
+     *
+     * @param origin the {@link System#nanoTime()} of the start of the timeline
+     */
+    public StartupTimeline(long origin) {
+        this.origin = origin;
+        milestones.put(JVM_START, origin);
+    }
+
+    /**
+     * Returns the timeline of the application, whose origin is the start of the virtual machine.
+     *
+     * @return the global {@code StartupTimeline}
+     */
+    public static StartupTimeline global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Marks the given milestone as reached now, unless it was reached before.
+     *
+     * @param name the name of the milestone
+     * @return {@code true} if this is the first time the milestone is reached
+     */
+    public boolean mark(String name) {
+        long now = System.nanoTime();
+        List<Milestone> timeline;
+        synchronized (this) {
+            if (milestones.putIfAbsent(name, now) != null) return false;
+            if (!name.equals(FIRST_IMAGE_PAINTED)) return true;
+            timeline = milestones();
+        }
+        complete(timeline);
+        return true;
+    }
+
+    /**
+     * Returns the milestones reached so far, in the order they were reached.
+     *
+     * @return the {@link Milestone}s of the timeline
+     */
+    public synchronized List<Milestone> milestones() {
+        List<Milestone> timeline = new ArrayList<>(milestones.size());
+        milestones.forEach((name, at) -> timeline.add(new Milestone(name, Duration.ofNanos(at - origin))));
+        return timeline;
+    }
+
+    /**
+     * Returns a future that completes with the whole timeline once the first image is painted.
+     *
+     * @return a {@link CompletableFuture} completed with the {@link Milestone}s of the timeline
+     */
+    public CompletableFuture<List<Milestone>> completion() {
+        return completion;
+    }
+
+    // Private helper methods for reporting the timeline
+
+    private void complete(List<Milestone> timeline) {
+        for (Milestone milestone : timeline)
+            Metrics.global().latency("startup." + milestone.name()).record(milestone.since().toNanos());
+        LOGGER.log(System.Logger.Level.INFO, "Startup timeline: " + timeline);
+        completion.complete(timeline);
+    }
+
+    private static long jvmStart() {
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        return System.nanoTime() - uptime * 1_000_000;
+    }
+}
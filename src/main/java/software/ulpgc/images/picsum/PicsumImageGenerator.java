@@ -1,38 +1,92 @@
 package software.ulpgc.images.picsum;
 
-import java.io.InputStream;
+import software.ulpgc.images.fetch.ConcurrentFetcher;
+import software.ulpgc.images.fetch.FetchReport;
+import software.ulpgc.images.fetch.FetchResult;
+
 import java.net.URI;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * A utility class to generate random images by fetching them from the Picsum API.
  *
- * <p>The class retrieves 10 random images of size 1000x800 pixels from the Picsum API and returns them as a list of byte arrays.</p>
+ * <p>The class retrieves 10 random images of size 1000x800 pixels from the Picsum API and returns them as a list of byte arrays.
+ * The images are downloaded concurrently by a {@link ConcurrentFetcher}, and a failed download only drops that image.</p>
  *
  * @author      Vít Mikula
- * @version     1.0, 10/01/2025
+ * @version     1.1, 18/10/2026
  * @since       1.0
  */
 public class PicsumImageGenerator {
     public static final String URL = "https://picsum.photos/1000/800";
+    public static final int COUNT = 10;
+    private static final System.Logger LOGGER = System.getLogger(PicsumImageGenerator.class.getName());
+
     /**
      * Fetches 10 random images from the Picsum API.
      *
-     * <p>Each image is downloaded and stored as a byte array. The method handles potential
-     * exceptions during the download process, and if an error occurs, it returns {@code null}.</p>
+     * <p>Each image is downloaded and stored as a byte array. Images whose download fails are
+     * logged and left out of the result, so the list may contain fewer than 10 images.</p>
      *
-     * @return a list of byte arrays, where each byte array represents an image, or {@code null} if an error occurs.
+     * @return a list of byte arrays, where each byte array represents an image.
      */
     public static List<byte[]> getRandomImages() {
-        List<byte[]> contents = new ArrayList<>();
-        for (int i = 0; i < 10; i++) {
-            try (InputStream urlStream = new URI(URL).toURL().openStream()){
-                contents.add(urlStream.readAllBytes());
-            } catch(Exception e) {
-                return null;
-            }
+        FetchReport report = fetchRandomImages(URI.create(URL), COUNT, new ConcurrentFetcher());
+        report.failures().forEach(PicsumImageGenerator::log);
+        return report.contents();
+    }
+
+    /**
+     * Fetches the given number of random images from the Picsum API, handing each image to the given
+     * consumer as soon as it has been downloaded, so the first image can be used before the others
+     * arrive. Images whose download fails are logged and left out.
+     *
+     * @param count     the number of images to fetch
+     * @param onArrival the consumer of the bytes of each image, called concurrently from the download threads
+     * @return a {@link CompletableFuture} completed once every download has finished
+     */
+    public static CompletableFuture<Void> getRandomImages(int count, Consumer<byte[]> onArrival) {
+        return getRandomImages(count, new ConcurrentFetcher(), onArrival);
+    }
+
+    /**
+     * Fetches the given number of random images from the Picsum API with the given
+     * {@link ConcurrentFetcher}, handing each image to the given consumer as soon as it has been
+     * downloaded. Images whose download fails are logged and left out.
+     *
+     * @param count     the number of images to fetch
+     * @param fetcher   the {@link ConcurrentFetcher} that performs the downloads
+     * @param onArrival the consumer of the bytes of each image, called concurrently from the download threads
+     * @return a {@link CompletableFuture} completed once every download has finished
+     */
+    public static CompletableFuture<Void> getRandomImages(int count, ConcurrentFetcher fetcher, Consumer<byte[]> onArrival) {
+        URI source = URI.create(URL);
+        CompletableFuture<?>[] downloads = new CompletableFuture<?>[Math.max(0, count)];
+        for (int i = 0; i < downloads.length; i++) {
+            downloads[i] = fetcher.fetchAsync(source).thenAccept(result -> {
+                if (result.isSuccess()) onArrival.accept(result.content());
+                else log(result);
+            });
         }
-        return contents;
+        return CompletableFuture.allOf(downloads);
+    }
+
+    /**
+     * Fetches the given number of images from the given source using the given {@link ConcurrentFetcher}.
+     *
+     * @param source  the {@link URI} that returns a random image on every request
+     * @param count   the number of images to fetch
+     * @param fetcher the {@link ConcurrentFetcher} that performs the downloads
+     * @return a {@link FetchReport} with the result of every download
+     */
+    public static FetchReport fetchRandomImages(URI source, int count, ConcurrentFetcher fetcher) {
+        return fetcher.fetchAll(Collections.nCopies(count, source));
+    }
+
+    private static void log(FetchResult failure) {
+        LOGGER.log(System.Logger.Level.WARNING, "Could not fetch image " + failure.index() + " from " + failure.uri(), failure.error());
     }
 }
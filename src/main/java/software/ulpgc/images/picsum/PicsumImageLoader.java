@@ -1,44 +1,202 @@
 package software.ulpgc.images.picsum;
 
-import software.ulpgc.images.architecture.io.Deserializer;
+import software.ulpgc.images.architecture.io.RegionDeserializer;
 import software.ulpgc.images.architecture.io.ImageLoader;
 import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.cache.DecodedImageCache;
+import software.ulpgc.images.decode.ImageDeserializer;
+import software.ulpgc.images.fetch.ConcurrentFetcher;
+import software.ulpgc.images.fetch.HttpFetcher;
+import software.ulpgc.images.metrics.StartupTimeline;
+import software.ulpgc.images.store.Blob;
+import software.ulpgc.images.store.ContentDeduplicator;
+import software.ulpgc.images.store.ImageArena;
+import software.ulpgc.images.store.ImageStore;
 
 import java.awt.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A loader for fetching and navigating through images generated by the PicsumImageGenerator.
  * This loader deserializes image data into {@link Image} objects and supports navigation
- * between images in a sequence.
+ * between images in a sequence. Decoded images are kept in a {@link DecodedImageCache}, so
+ * repeated calls to {@link Picture#content()} do not decode the same image again. Size-hinted
+ * requests are decoded at reduced resolution, rounding the size up to steps of {@value #SIZE_STEP}
+ * pixels so that small window resizes reuse the same decode, and previews are decoded at a fraction
+ * of the display size. Pictures are identified by a hash of their compressed bytes, so the same image
+ * keeps its identity across sessions and caches keyed by it stay valid.
+ * <p>
+ * Downloaded images go through a {@link ContentDeduplicator}, as a source of random images may return
+ * the same image more than once. A duplicate shares the stored bytes and the decoded image of its
+ * first copy, or is replaced by another download while the refetch budget of the deduplicator lasts.
+ * </p>
+ * <p>
+ * Images are downloaded in the background and appended to the sequence as they arrive, so the first
+ * picture is available as soon as one image has been downloaded; navigation wraps around the images
+ * available at the time. When backed by an {@link ImageStore}, the loader starts from the most recently
+ * stored images and only downloads the ones missing to complete a batch, so a warm start needs no network. The
+ * compressed bytes are then read from the memory-mapped store instead of being held on the heap,
+ * and the downloads revalidate the resources they have already stored through an {@link HttpFetcher}
+ * backed by the same store.
+ * Otherwise, the downloaded images are copied into an off-heap {@link ImageArena} and decoded from
+ * there, so they do not stay on the heap either.
+ * </p>
  *
  * @author      Vít Mikula
  * @version     1.0, 10/01/2025
  * @since       1.0
  */
 public class PicsumImageLoader implements ImageLoader {
-    private final Deserializer<byte[], Image> deserializer;
-    private final List<byte[]> images;
+    private static final int SIZE_STEP = 256;
+    private static final System.Logger LOGGER = System.getLogger(PicsumImageLoader.class.getName());
+    private final RegionDeserializer<ByteBuffer> deserializer;
+    private final List<Blob> images = new CopyOnWriteArrayList<>();
+    private final DecodedImageCache cache;
+    private final ContentDeduplicator deduplicator;
+    private final ConcurrentFetcher fetcher;
+    private final CompletableFuture<Void> firstImage = new CompletableFuture<>();
+    private final CompletableFuture<Void> downloads = new CompletableFuture<>();
+    private final AtomicInteger outstanding = new AtomicInteger();
 
     /**
      * Constructs a new {@code PicsumImageLoader}.
-     * Initializes the image list with random images from {@link PicsumImageGenerator}
-     * and sets up the deserializer with a {@link PicsumImageDeserializer}.
+     * Starts downloading random images from {@link PicsumImageGenerator}
+     * and sets up the deserializer with an {@link ImageDeserializer}.
      */
     public PicsumImageLoader() {
-        this.images = PicsumImageGenerator.getRandomImages();
-        this.deserializer = new PicsumImageDeserializer();
+        this(new DecodedImageCache());
     }
 
     /**
-     * Loads the first {@link Picture} in the image list.
+     * Constructs a new {@code PicsumImageLoader} that keeps decoded images in the given cache.
+     * The images are downloaded in the background and become available as they arrive.
      *
-     * @return the first {@link Picture}.
+     * @param cache the {@link DecodedImageCache} for decoded images
      */
+    public PicsumImageLoader(DecodedImageCache cache) {
+        this(cache, new ContentDeduplicator());
+    }
 
+    /**
+     * Constructs a new {@code PicsumImageLoader} that keeps decoded images in the given cache and
+     * deduplicates the downloaded images with the given {@link ContentDeduplicator}.
+     * The images are downloaded in the background and become available as they arrive.
+     *
+     * @param cache        the {@link DecodedImageCache} for decoded images
+     * @param deduplicator the {@link ContentDeduplicator} of the downloaded images
+     */
+    public PicsumImageLoader(DecodedImageCache cache, ContentDeduplicator deduplicator) {
+        this.deserializer = new ImageDeserializer();
+        this.cache = cache;
+        this.deduplicator = deduplicator;
+        this.fetcher = new ConcurrentFetcher();
+        ImageArena arena = new ImageArena();
+        fetch(PicsumImageGenerator.COUNT, (key, content) -> new Blob(key, arena.get(arena.add(content))));
+    }
+
+    /**
+     * Constructs a new {@code PicsumImageLoader} backed by the given {@link ImageStore}.
+     * The most recent {@value PicsumImageGenerator#COUNT} stored images are available immediately,
+     * and missing images are downloaded from {@link PicsumImageGenerator} in the background, added
+     * to the store and made available as they arrive.
+     *
+     * @param store the {@link ImageStore} holding the compressed images
+     * @param cache the {@link DecodedImageCache} for decoded images
+     * @throws UncheckedIOException if the store cannot be read
+     */
+    public PicsumImageLoader(ImageStore store, DecodedImageCache cache) {
+        this(store, cache, new ContentDeduplicator());
+    }
+
+    /**
+     * Constructs a new {@code PicsumImageLoader} backed by the given {@link ImageStore}, which
+     * deduplicates the downloaded images against each other and against the stored images with the
+     * given {@link ContentDeduplicator}.
+     *
+     * @param store        the {@link ImageStore} holding the compressed images
+     * @param cache        the {@link DecodedImageCache} for decoded images
+     * @param deduplicator the {@link ContentDeduplicator} of the downloaded images
+     * @throws UncheckedIOException if the store cannot be read
+     */
+    public PicsumImageLoader(ImageStore store, DecodedImageCache cache, ContentDeduplicator deduplicator) {
+        this.deserializer = new ImageDeserializer();
+        this.cache = cache;
+        this.deduplicator = deduplicator;
+        this.fetcher = new ConcurrentFetcher(ConcurrentFetcher.DEFAULT_CONCURRENCY, ConcurrentFetcher.DEFAULT_TIMEOUT,
+                new HttpFetcher(HttpFetcher.DEFAULT_ATTEMPTS, HttpFetcher.DEFAULT_BACKOFF, store));
+        for (Blob blob : imagesFrom(store)) {
+            deduplicator.add(blob);
+            arrived(blob);
+        }
+        fetch(PicsumImageGenerator.COUNT - images.size(), (_, content) -> store(store, content));
+    }
+
+    /**
+     * Loads the first {@link Picture} in the image list, waiting until the first image is available
+     * or every download has failed.
+     *
+     * @return the first {@link Picture}, or {@link Picture#None} if no image could be loaded.
+     */
     @Override
     public Picture load() {
-        return imageAt(0);
+        CompletableFuture.anyOf(firstImage, downloads).join();
+        return images.isEmpty() ? Picture.None : imageAt(0);
+    }
+
+    /**
+     * Loads the {@link Picture} at the given index of the image list, without decoding any image.
+     *
+     * @param index the index of the image
+     * @return the {@link Picture} at the index, or {@link Picture#None} if no image is available there yet.
+     */
+    @Override
+    public Picture load(int index) {
+        return index >= 0 && index < images.size() ? imageAt(index) : Picture.None;
+    }
+
+    /**
+     * Returns the number of images available so far, which grows while the downloads arrive.
+     *
+     * @return the number of images
+     */
+    @Override
+    public int count() {
+        return images.size();
+    }
+
+    /**
+     * Returns a future that completes when every image missing at construction has been downloaded,
+     * or has failed to download, including the images fetched to replace duplicates.
+     *
+     * @return a {@link CompletableFuture} completed at the end of the downloads
+     */
+    public CompletableFuture<Void> downloads() {
+        return downloads;
+    }
+
+    /**
+     * Returns the deduplicator of the images downloaded by this loader.
+     *
+     * @return the {@link ContentDeduplicator} of this loader
+     */
+    public ContentDeduplicator deduplicator() {
+        return deduplicator;
+    }
+
+    /**
+     * Returns the cache holding the images decoded by this loader.
+     *
+     * @return the {@link DecodedImageCache} of this loader
+     */
+    public DecodedImageCache cache() {
+        return cache;
     }
 
     /**
@@ -50,12 +208,67 @@ public class PicsumImageLoader implements ImageLoader {
      * @return a {@link Picture} representing the image at the specified index.
      */
     private Picture imageAt(int index) {
-        byte[] current = images.get(index);
+        Blob blob = images.get(index);
+        ByteBuffer current = blob.content();
         return new Picture() {
+            @Override
+            public String id() {
+                return "picsum:" + blob.key();
+            }
+
             @Override
             public Image content() {
                 try {
-                    return deserializer.deserialize(current);
+                    return cache.get(id(), () -> deserializer.deserialize(current));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public Image content(int width, int height) {
+                Image full = cache.peek(id());
+                if (full != null) return full;
+                int stepWidth = roundUp(width);
+                int stepHeight = roundUp(height);
+                try {
+                    return cache.get(sizedKey(width, height), () -> deserializer.deserialize(current, stepWidth, stepHeight));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public boolean isDecoded(int width, int height) {
+                if (cache.peek(id()) != null) return true;
+                return width > 0 && height > 0 && cache.peek(sizedKey(width, height)) != null;
+            }
+
+            @Override
+            public Image preview(int width, int height) {
+                Image ready = cache.peek(id());
+                if (ready == null) ready = cache.peek(sizedKey(width, height));
+                if (ready != null) return ready;
+                try {
+                    return cache.get(id() + "@preview", () -> deserializer.preview(current, width, height));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public Dimension dimensions() {
+                try {
+                    return deserializer.dimensionsOf(current);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public Image region(Rectangle region, int subsampling) {
+                try {
+                    return deserializer.deserialize(current, region, subsampling);
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
@@ -71,9 +284,79 @@ public class PicsumImageLoader implements ImageLoader {
                 return imageAt(previousIndex());
             }
 
+            private String sizedKey(int width, int height) {return id() + "@" + roundUp(width) + "x" + roundUp(height);}
+
             private int nextIndex() {return (index + 1) % images.size();}
 
             private int previousIndex() {return index > 0 ? index - 1 : images.size() - 1;}
         };
     }
+
+    private void fetch(int count, Storage storage) {
+        if (count <= 0) {
+            if (outstanding.get() == 0) downloads.complete(null);
+            return;
+        }
+        outstanding.addAndGet(count);
+        PicsumImageGenerator.getRandomImages(count, fetcher, content -> receive(content, storage)).whenComplete((_, error) -> {
+            if (error != null) LOGGER.log(System.Logger.Level.WARNING, "Could not receive a downloaded image", error);
+            if (outstanding.addAndGet(-count) == 0) downloads.complete(null);
+        });
+    }
+
+    private void receive(byte[] content, Storage storage) {
+        ByteBuffer payload = ByteBuffer.wrap(content);
+        Blob blob;
+        synchronized (deduplicator) {
+            blob = deduplicator.find(payload);
+            if (blob != null && deduplicator.claimRefetch()) {
+                fetch(1, storage);
+                return;
+            }
+            if (blob != null) deduplicator.shared(payload);
+            else {
+                blob = storage.store(deduplicator.keyOf(payload), content);
+                if (blob == null) return;
+                deduplicator.add(blob);
+            }
+        }
+        arrived(blob);
+    }
+
+    private void arrived(Blob image) {
+        images.add(image);
+        StartupTimeline.global().mark(StartupTimeline.FIRST_BYTES);
+        firstImage.complete(null);
+    }
+
+    private static Blob store(ImageStore store, byte[] content) {
+        try {
+            String hash = store.put(content);
+            return new Blob(hash, store.get(hash));
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Could not store a downloaded image", e);
+            return null;
+        }
+    }
+
+    private static List<Blob> imagesFrom(ImageStore store) {
+        try {
+            List<String> hashes = store.hashes();
+            List<Blob> images = new ArrayList<>();
+            for (String hash : hashes.subList(Math.max(0, hashes.size() - PicsumImageGenerator.COUNT), hashes.size()))
+                images.add(new Blob(hash, store.get(hash)));
+            return images;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static int roundUp(int size) {
+        return (Math.max(size, 1) + SIZE_STEP - 1) / SIZE_STEP * SIZE_STEP;
+    }
+
+    @FunctionalInterface
+    private interface Storage {
+        Blob store(String key, byte[] content);
+    }
 }
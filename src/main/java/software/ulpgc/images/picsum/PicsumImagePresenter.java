@@ -3,13 +3,26 @@ package software.ulpgc.images.picsum;
 import software.ulpgc.images.architecture.io.ImageLoader;
 import software.ulpgc.images.architecture.model.Picture;
 import software.ulpgc.images.architecture.presenter.ImagePresenter;
+import software.ulpgc.images.cache.PicturePrefetcher;
+import software.ulpgc.images.cache.PicturePrefetcher.Direction;
+import software.ulpgc.images.slideshow.SlideshowScheduler;
+import software.ulpgc.images.swing.FilmstripPanel;
 import software.ulpgc.images.swing.SwingImageDisplay;
 
+import javax.swing.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
 /**
  * The {@code PicsumImagePresenter} class implements the {@link ImagePresenter} interface
  * to handle the presentation logic for displaying images using a {@link SwingImageDisplay}.
  * It integrates with an {@link ImageLoader} to load and display images, and manages navigation
- * through previous and next images.
+ * through previous and next images, or straight to the image of a thumbnail selected in a
+ * {@link FilmstripPanel}. After every navigation a {@link PicturePrefetcher} decodes
+ * the neighbouring images in the background. The slideshow button plays the images with a
+ * {@link SlideshowScheduler}, which decodes and scales each upcoming image ahead of its deadline; a manual
+ * navigation during the slideshow restarts its interval from the image navigated to.
  *
  * @author      Vít Mikula
  * @version     1.0, 10/01/2025
@@ -17,6 +30,10 @@ import software.ulpgc.images.swing.SwingImageDisplay;
  */
 public class PicsumImagePresenter implements ImagePresenter {
     private final SwingImageDisplay imageDisplay;
+    private final PicturePrefetcher prefetcher;
+    private final SlideshowScheduler slideshow;
+    private FilmstripPanel filmstrip;
+    private ImageLoader loader;
     private Picture currentImage;
 
     /**
@@ -25,21 +42,159 @@ public class PicsumImagePresenter implements ImagePresenter {
      * @param imageDisplay the display component for showing images
      */
     public PicsumImagePresenter(SwingImageDisplay imageDisplay) {
+        this(imageDisplay, new PicturePrefetcher());
+    }
+
+    /**
+     * Constructs a {@code PicsumImagePresenter} with the specified {@link SwingImageDisplay}
+     * and {@link PicturePrefetcher}.
+     *
+     * @param imageDisplay the display component for showing images
+     * @param prefetcher   the prefetcher that decodes neighbouring images in the background
+     */
+    public PicsumImagePresenter(SwingImageDisplay imageDisplay, PicturePrefetcher prefetcher) {
+        this(imageDisplay, prefetcher, null);
+    }
+
+    /**
+     * Constructs a {@code PicsumImagePresenter} with the specified {@link SwingImageDisplay},
+     * {@link PicturePrefetcher} and {@link FilmstripPanel}. Selecting a thumbnail of the filmstrip
+     * jumps straight to its image.
+     *
+     * @param imageDisplay the display component for showing images
+     * @param prefetcher   the prefetcher that decodes neighbouring images in the background
+     * @param filmstrip    the filmstrip of thumbnails, or {@code null} if there is none
+     */
+    public PicsumImagePresenter(SwingImageDisplay imageDisplay, PicturePrefetcher prefetcher, FilmstripPanel filmstrip) {
+        this(imageDisplay, prefetcher, filmstrip, SlideshowScheduler.DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Constructs a {@code PicsumImagePresenter} with the specified {@link SwingImageDisplay},
+     * {@link PicturePrefetcher}, {@link FilmstripPanel} and slideshow interval.
+     *
+     * @param imageDisplay      the display component for showing images
+     * @param prefetcher        the prefetcher that decodes neighbouring images in the background
+     * @param filmstrip         the filmstrip of thumbnails, or {@code null} if there is none
+     * @param slideshowInterval the time each image is displayed for during the slideshow
+     */
+    public PicsumImagePresenter(SwingImageDisplay imageDisplay, PicturePrefetcher prefetcher, FilmstripPanel filmstrip, Duration slideshowInterval) {
         this.imageDisplay = imageDisplay;
+        this.prefetcher = prefetcher;
+        this.filmstrip = filmstrip;
+        this.slideshow = new SlideshowScheduler(slideshowInterval, this::prepare, picture -> SwingUtilities.invokeLater(() -> advance(picture)), 2);
+        imageDisplay.setPaintListener(slideshow::painted);
+    }
+
+    /**
+     * Returns the prefetcher that decodes the neighbours of the displayed image.
+     *
+     * @return the {@link PicturePrefetcher} of this presenter
+     */
+    public PicturePrefetcher prefetcher() {
+        return prefetcher;
+    }
+
+    /**
+     * Returns the scheduler that plays the slideshow.
+     *
+     * @return the {@link SlideshowScheduler} of this presenter
+     */
+    public SlideshowScheduler slideshow() {
+        return slideshow;
+    }
+
+    /**
+     * Sets the filmstrip of thumbnails, which may be created after the presenter because its cache is
+     * opened in the background. If images are already shown, the filmstrip shows them at once.
+     *
+     * @param filmstrip the {@link FilmstripPanel} of thumbnails
+     */
+    public void setFilmstrip(FilmstripPanel filmstrip) {
+        this.filmstrip = filmstrip;
+        if (loader != null) showFilmstrip(loader);
+    }
+
+    /**
+     * Starts the slideshow from the displayed image, or stops it if it is playing.
+     */
+    public void toggleSlideshow() {
+        if (slideshow.isRunning()) slideshow.stop();
+        else if (currentImage != null) slideshow.start(currentImage);
     }
 
     /**
      * Loads and displays images using the specified {@link ImageLoader}.
-     * It also sets up navigation controls for viewing previous and next images.
+     * It also sets up navigation controls for viewing previous and next images, and shows the
+     * thumbnails of the images in the filmstrip, if any.
      *
      * @param loader the {@link ImageLoader} used to load images
      */
     @Override
     public void showWith(ImageLoader loader) {
+        slideshow.stop();
         imageDisplay.reset();
         show(loader.load());
-        imageDisplay.setPreviousImageButtonListener(() -> show(currentImage.previous()));
-        imageDisplay.setNextImageButtonListener(() -> show(currentImage.next()));
+        prefetcher.setTargetSize(imageDisplay.getSize());
+        prefetcher.start(currentImage);
+        imageDisplay.setPreviousImageButtonListener(() -> navigate(currentImage.previous(), Direction.Backward));
+        imageDisplay.setNextImageButtonListener(() -> navigate(currentImage.next(), Direction.Forward));
+        imageDisplay.setSlideshowButtonListener(this::toggleSlideshow);
+        this.loader = loader;
+        if (filmstrip != null) showFilmstrip(loader);
+    }
+
+    /**
+     * Shows the thumbnails of the images of the specified {@link ImageLoader} in the filmstrip.
+     * Selecting a thumbnail jumps straight to its image.
+     *
+     * @param loader the {@link ImageLoader} whose images are shown
+     */
+    private void showFilmstrip(ImageLoader loader) {
+        filmstrip.setSelectListener(index -> navigate(loader.load(index), Direction.Forward));
+        filmstrip.show(loader);
+        filmstrip.setCurrent(currentImage.id());
+    }
+
+    /**
+     * Displays the specified {@link Picture} and prefetches its neighbours. Navigating past
+     * either end of a sequence, which yields {@link Picture#None}, is ignored.
+     *
+     * @param picture   the {@link Picture} to display
+     * @param direction the direction of the navigation
+     */
+    private void navigate(Picture picture, Direction direction) {
+        if (picture == Picture.None) return;
+        prefetcher.setTargetSize(imageDisplay.getSize());
+        prefetcher.navigated(picture, direction);
+        show(picture);
+        if (slideshow.isRunning()) slideshow.start(picture);
+    }
+
+    /**
+     * Displays the specified {@link Picture} when the slideshow switches to it. The slideshow has
+     * already decoded it, so the prefetcher only follows along.
+     *
+     * @param picture the {@link Picture} the slideshow switched to
+     */
+    private void advance(Picture picture) {
+        if (!slideshow.isRunning()) return;
+        prefetcher.navigated(picture, Direction.Forward);
+        show(picture);
+    }
+
+    /**
+     * Decodes the specified {@link Picture} and scales it to the size of the display, ahead of its
+     * slideshow deadline, so that its first frame is already at full quality.
+     *
+     * @param picture the {@link Picture} to prepare
+     */
+    private void prepare(Picture picture) {
+        try {
+            imageDisplay.prepare(picture);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -49,5 +204,6 @@ public class PicsumImagePresenter implements ImagePresenter {
      */
     private void show(Picture picture) {
         imageDisplay.show(currentImage = picture);
+        if (filmstrip != null) filmstrip.setCurrent(picture.id());
     }
 }
@@ -0,0 +1,282 @@
+package software.ulpgc.images.picsum;
+
+import software.ulpgc.images.architecture.io.RegionDeserializer;
+import software.ulpgc.images.architecture.io.ImageLoader;
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.cache.DecodedImageCache;
+import software.ulpgc.images.cache.PicturePrefetcher;
+import software.ulpgc.images.decode.ImageDeserializer;
+import software.ulpgc.images.fetch.ConcurrentFetcher;
+import software.ulpgc.images.fetch.FetchResult;
+import software.ulpgc.images.metrics.StartupTimeline;
+
+import java.awt.*;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A loader that streams an unbounded sequence of Picsum images, fetching each image on demand.
+ * <p>
+ * Every position of the sequence is mapped to a deterministic Picsum seed, so an image that is
+ * fetched again returns the same picture. Only a sliding window of the most recently used positions
+ * is kept in memory, both as compressed bytes and as decoded images. Whenever a picture is accessed,
+ * the positions ahead of it are fetched in the background; positions that fall out of the window are
+ * evicted and fetched again if revisited. The window must also hold the pictures a
+ * {@link PicturePrefetcher} decodes around the displayed one, or they would evict the displayed
+ * picture itself, so its capacity is derived with {@link #capacityFor(int, int)}.
+ * </p>
+ * <p>
+ * An evicted download is not cancelled, since threads may still be waiting for it; it only stops
+ * being remembered. Waiting for a download can be interrupted, which fails the decode waiting for it
+ * with an {@link InterruptedIOException}.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class PicsumStreamingImageLoader implements ImageLoader {
+    public static final String URL = "https://picsum.photos/seed/%s-%d/1000/800";
+    /**
+     * The default number of images fetched ahead of the accessed one.
+     */
+    public static final int DEFAULT_AHEAD = 3;
+    private final String session = UUID.randomUUID().toString();
+    private final ConcurrentFetcher fetcher;
+    private final RegionDeserializer<ByteBuffer> deserializer;
+    private final DecodedImageCache cache;
+    private final int ahead;
+    private final int capacity;
+    private final Map<Integer, CompletableFuture<ByteBuffer>> window = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Constructs a new {@code PicsumStreamingImageLoader} that fetches {@value #DEFAULT_AHEAD} images
+     * ahead, with a window that covers the default window of a {@link PicturePrefetcher}.
+     */
+    public PicsumStreamingImageLoader() {
+        this(new ConcurrentFetcher(), new DecodedImageCache(), DEFAULT_AHEAD, capacityFor(DEFAULT_AHEAD, PicturePrefetcher.DEFAULT_MAXIMUM_WINDOW));
+    }
+
+    /**
+     * Constructs a new {@code PicsumStreamingImageLoader}.
+     *
+     * @param fetcher  the {@link ConcurrentFetcher} that downloads the images
+     * @param cache    the {@link DecodedImageCache} for decoded images
+     * @param ahead    the number of images fetched ahead of the accessed one
+     * @param capacity the number of images kept in the sliding window
+     * @throws IllegalArgumentException if the window cannot hold the accessed image and the ones ahead of it
+     */
+    public PicsumStreamingImageLoader(ConcurrentFetcher fetcher, DecodedImageCache cache, int ahead, int capacity) {
+        if (ahead < 0 || capacity <= ahead) throw new IllegalArgumentException("Invalid streaming window: " + ahead + " ahead of " + capacity);
+        this.fetcher = fetcher;
+        this.deserializer = new ImageDeserializer();
+        this.cache = cache;
+        this.ahead = ahead;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the capacity a window needs to hold the accessed image, the images fetched ahead of it,
+     * and the images prefetched on both sides of it, each of which fetches its own images ahead.
+     *
+     * @param ahead          the number of images fetched ahead of the accessed one
+     * @param prefetchWindow the maximum number of pictures prefetched in each direction
+     * @return the number of images the window must hold
+     */
+    public static int capacityFor(int ahead, int prefetchWindow) {
+        return prefetchWindow + 1 + prefetchWindow + ahead;
+    }
+
+    /**
+     * Loads the first {@link Picture} of the sequence.
+     *
+     * @return the first {@link Picture}.
+     */
+    @Override
+    public Picture load() {
+        return imageAt(0);
+    }
+
+    /**
+     * Loads the {@link Picture} at the given position of the sequence. The image is only fetched
+     * when its content is requested.
+     *
+     * @param index the position of the image in the sequence
+     * @return the {@link Picture} at the position, or {@link Picture#None} if the position is negative.
+     */
+    @Override
+    public Picture load(int index) {
+        return index >= 0 ? imageAt(index) : Picture.None;
+    }
+
+    /**
+     * Returns the cache holding the images decoded by this loader.
+     *
+     * @return the {@link DecodedImageCache} of this loader
+     */
+    public DecodedImageCache cache() {
+        return cache;
+    }
+
+    /**
+     * Returns the number of images currently held in the sliding window.
+     *
+     * @return the number of resident or in-flight images
+     */
+    public synchronized int residentCount() {
+        return window.size();
+    }
+
+    /**
+     * Retrieves a {@link Picture} at the specified position of the sequence. The first picture
+     * has no previous picture.
+     *
+     * @param index the position of the desired image in the sequence.
+     * @return a {@link Picture} representing the image at the specified position.
+     */
+    private Picture imageAt(int index) {
+        return new Picture() {
+            @Override
+            public String id() {
+                return idOf(index);
+            }
+
+            @Override
+            public Image content() {
+                try {
+                    return cache.get(id(), () -> deserializer.deserialize(bytesAt(index)));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public Image content(int width, int height) {
+                Image full = cache.peek(id());
+                if (full != null) return full;
+                int stepWidth = PicsumImageLoader.roundUp(width);
+                int stepHeight = PicsumImageLoader.roundUp(height);
+                try {
+                    return cache.get(sizedKey(width, height), () -> deserializer.deserialize(bytesAt(index), stepWidth, stepHeight));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public boolean isDecoded(int width, int height) {
+                if (cache.peek(id()) != null) return true;
+                return width > 0 && height > 0 && cache.peek(sizedKey(width, height)) != null;
+            }
+
+            @Override
+            public Image preview(int width, int height) {
+                Image ready = cache.peek(id());
+                if (ready == null) ready = cache.peek(sizedKey(width, height));
+                if (ready != null) return ready;
+                try {
+                    return cache.get(id() + "@preview", () -> deserializer.preview(bytesAt(index), width, height));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public Dimension dimensions() {
+                try {
+                    return deserializer.dimensionsOf(bytesAt(index));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public Image region(Rectangle region, int subsampling) {
+                try {
+                    return deserializer.deserialize(bytesAt(index), region, subsampling);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public Picture next() {
+                return imageAt(index + 1);
+            }
+
+            @Override
+            public Picture previous() {
+                return index > 0 ? imageAt(index - 1) : Picture.None;
+            }
+
+            private String sizedKey(int width, int height) {
+                return id() + "@" + PicsumImageLoader.roundUp(width) + "x" + PicsumImageLoader.roundUp(height);
+            }
+        };
+    }
+
+    // Private helper methods for the sliding window
+
+    private ByteBuffer bytesAt(int index) throws IOException {
+        while (true) {
+            CompletableFuture<ByteBuffer> bytes;
+            synchronized (this) {
+                bytes = request(index);
+                for (int i = 1; i <= ahead; i++) request(index + i);
+                evictOutsideWindow();
+            }
+            try {
+                return bytes.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while fetching " + idOf(index));
+            } catch (CancellationException e) {
+                forget(index, bytes);
+            } catch (ExecutionException e) {
+                forget(index, bytes);
+                throw new IOException(e.getCause());
+            }
+        }
+    }
+
+    private CompletableFuture<ByteBuffer> request(int index) {
+        return window.computeIfAbsent(index, _ -> fetcher.fetchAsync(uriOf(index)).thenApply(PicsumStreamingImageLoader::contentOf));
+    }
+
+    private void evictOutsideWindow() {
+        Iterator<Map.Entry<Integer, CompletableFuture<ByteBuffer>>> iterator = window.entrySet().iterator();
+        while (window.size() > capacity && iterator.hasNext()) {
+            Map.Entry<Integer, CompletableFuture<ByteBuffer>> entry = iterator.next();
+            cache.invalidateAll(idOf(entry.getKey()));
+            iterator.remove();
+        }
+    }
+
+    private synchronized void forget(int index, CompletableFuture<ByteBuffer> bytes) {
+        window.remove(index, bytes);
+    }
+
+    private URI uriOf(int index) {
+        return URI.create(URL.formatted(session, index));
+    }
+
+    private String idOf(int index) {
+        return "picsum-stream:" + session + ":" + index;
+    }
+
+    private static ByteBuffer contentOf(FetchResult result) {
+        if (!result.isSuccess()) throw new CompletionException(result.error());
+        StartupTimeline.global().mark(StartupTimeline.FIRST_BYTES);
+        return ByteBuffer.wrap(result.content());
+    }
+}
@@ -0,0 +1,33 @@
+package software.ulpgc.images.pipeline;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The outcome of a {@link RenditionPipeline} run.
+ *
+ * @param written the number of renditions written to disk
+ * @param elapsed the wall-clock time of the whole run
+ * @param stages  the statistics of every stage, in pipeline order
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record PipelineReport(long written, Duration elapsed, List<StageStats> stages) {
+    /**
+     * Returns the number of renditions written per second of wall-clock time.
+     *
+     * @return the throughput of the run, or {@code 0} if it took no measurable time
+     */
+    public double throughput() {
+        return elapsed.isZero() ? 0 : written * 1e9 / elapsed.toNanos();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("%d renditions in %.2f s, %.1f images/s".formatted(written, elapsed.toNanos() / 1e9, throughput()));
+        stages.forEach(stage -> report.append("\n  ").append(stage));
+        return report.toString();
+    }
+}
@@ -0,0 +1,237 @@
+package software.ulpgc.images.pipeline;
+
+import software.ulpgc.images.architecture.io.ImageLoader;
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.architecture.model.ViewPort;
+import software.ulpgc.images.swing.RenditionCache;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Renders the pictures of an {@link ImageLoader} to disk at a fixed display size, without a window.
+ * <p>
+ * The pictures flow through five stages: the source walks the loader, the decode stage decodes each
+ * picture for the target size, the fit stage lays it out in the target {@link ViewPort}, the resample
+ * stage scales it the same way the display does, and the encode stage writes it to the output
+ * directory. Each stage runs on its own threads and hands its items to the next stage through a
+ * bounded queue, so a slow stage blocks the stages before it instead of letting decoded images pile
+ * up in memory. The report tells how busy each stage was, which points at the bottleneck of the run.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class RenditionPipeline {
+    private static final Object END = new Object();
+    private static final System.Logger LOGGER = System.getLogger(RenditionPipeline.class.getName());
+
+    private final Path output;
+    private final int width;
+    private final int height;
+    private final String format;
+    private final int threads;
+    private final int capacity;
+
+    /**
+     * Constructs a new {@code RenditionPipeline}.
+     *
+     * @param output   the directory the renditions are written to
+     * @param width    the width of the target display
+     * @param height   the height of the target display
+     * @param format   the informal name of the image format the renditions are encoded in, such as {@code "jpg"}
+     * @param threads  the number of threads of the decode and resample stages
+     * @param capacity the number of items each queue between two stages can hold
+     * @throws IllegalArgumentException if the size, the number of threads or the capacity are not positive,
+     *                                  or no writer is available for the format
+     */
+    public RenditionPipeline(Path output, int width, int height, String format, int threads, int capacity) {
+        if (width <= 0 || height <= 0 || threads <= 0 || capacity <= 0)
+            throw new IllegalArgumentException("Invalid pipeline: " + width + "x" + height + ", " + threads + " threads, " + capacity + " items per queue");
+        if (!ImageIO.getImageWritersByFormatName(format).hasNext())
+            throw new IllegalArgumentException("No image writer found for the format " + format);
+        this.output = output;
+        this.width = width;
+        this.height = height;
+        this.format = format;
+        this.threads = threads;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Renders the pictures of the given loader, starting at the picture it loads and following
+     * {@link Picture#next()} until the loader runs out of pictures or the given count is reached. A
+     * loader that knows its {@link ImageLoader#count()} stops after that many pictures, which may hold
+     * duplicates; otherwise the run stops when the sequence wraps around to a picture already rendered.
+     * Pictures that fail to decode or encode are skipped and counted in the report.
+     *
+     * @param loader the {@link ImageLoader} the pictures are loaded with
+     * @param count  the maximum number of pictures to render
+     * @return the {@link PipelineReport} of the run
+     * @throws IOException if the output directory cannot be created
+     */
+    public PipelineReport run(ImageLoader loader, int count) throws IOException {
+        Files.createDirectories(output);
+        long start = System.nanoTime();
+        List<Stage<?, ?>> stages = List.of(
+                new Stage<Void, Item>("source", 1, _ -> null),
+                new Stage<Item, Item>("decode", threads, this::decode),
+                new Stage<Item, Item>("fit", 1, this::fit),
+                new Stage<Item, Item>("resample", threads, this::resample),
+                new Stage<Item, Void>("encode", 1, this::encode)
+        );
+        for (int i = 1; i < stages.size(); i++) stages.get(i).connect(stages.get(i - 1));
+        List<Thread> workers = new ArrayList<>();
+        workers.add(daemonThread("pipeline-source", () -> produce(loader, count, stages.getFirst())));
+        for (Stage<?, ?> stage : stages.subList(1, stages.size()))
+            for (int i = 0; i < stage.threads; i++) workers.add(daemonThread("pipeline-" + stage.name + "-" + i, stage::work));
+        workers.forEach(Thread::start);
+        try {
+            for (Thread worker : workers) worker.join();
+        } catch (InterruptedException e) {
+            workers.forEach(Thread::interrupt);
+            Thread.currentThread().interrupt();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return new PipelineReport(stages.getLast().processed.get(), elapsed, stages.stream().map(stage -> stage.stats(elapsed)).toList());
+    }
+
+    // Private helper methods for running the stages
+
+    private void produce(ImageLoader loader, int count, Stage<?, ?> source) {
+        Set<String> seen = new HashSet<>();
+        try {
+            Picture picture = loader.load();
+            int available = loader.count();
+            for (int index = 0; index < count && picture != Picture.None && (available >= 0 ? index < available : seen.add(picture.id())); index++) {
+                long begin = System.nanoTime();
+                Picture current = picture;
+                picture = picture.next();
+                source.busy.addAndGet(System.nanoTime() - begin);
+                source.processed.incrementAndGet();
+                source.output.put(new Item(index, current, null, null));
+            }
+            source.output.put(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            source.failed.incrementAndGet();
+            LOGGER.log(System.Logger.Level.WARNING, "Could not load the next picture", e);
+            putQuietly(source.output, END);
+        }
+    }
+
+    private Item decode(Item item) {
+        Image image = item.picture().content(width, height);
+        if (image == null) throw new IllegalStateException("Could not decode " + item.picture().id());
+        return new Item(item.index(), item.picture(), image, null);
+    }
+
+    private Item fit(Item item) {
+        ViewPort viewPort = ViewPort.ofSize(width, height).fit(item.image().getWidth(null), item.image().getHeight(null));
+        return new Item(item.index(), item.picture(), item.image(), viewPort);
+    }
+
+    private Item resample(Item item) {
+        return new Item(item.index(), item.picture(), RenditionCache.scale(item.image(), item.viewPort(), null), item.viewPort());
+    }
+
+    private Void encode(Item item) {
+        Path file = output.resolve("%05d.%s".formatted(item.index(), format));
+        try {
+            if (!ImageIO.write((BufferedImage) item.image(), format, file.toFile()))
+                throw new IllegalStateException("Could not encode " + item.picture().id() + " as " + format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return null;
+    }
+
+    private static void putQuietly(BlockingQueue<Object> queue, Object item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Thread daemonThread(String name, Runnable runnable) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record Item(int index, Picture picture, Image image, ViewPort viewPort) {
+    }
+
+    private class Stage<I, O> {
+        private final String name;
+        private final int threads;
+        private final Function<I, O> task;
+        private final BlockingQueue<Object> output = new ArrayBlockingQueue<>(capacity);
+        private final AtomicInteger running;
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong busy = new AtomicLong();
+        private BlockingQueue<Object> input;
+
+        private Stage(String name, int threads, Function<I, O> task) {
+            this.name = name;
+            this.threads = threads;
+            this.task = task;
+            this.running = new AtomicInteger(threads);
+        }
+
+        private void connect(Stage<?, ?> previous) {
+            this.input = previous.output;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void work() {
+            try {
+                for (Object item = input.take(); item != END; item = input.take()) {
+                    long begin = System.nanoTime();
+                    O result = process((I) item);
+                    busy.addAndGet(System.nanoTime() - begin);
+                    if (result != null) output.put(result);
+                }
+                input.put(END);
+                if (running.decrementAndGet() == 0) output.put(END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private O process(I item) {
+            try {
+                O result = task.apply(item);
+                processed.incrementAndGet();
+                return result;
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                LOGGER.log(System.Logger.Level.WARNING, "The " + name + " stage failed", e);
+                return null;
+            }
+        }
+
+        private StageStats stats(Duration elapsed) {
+            return new StageStats(name, threads, processed.get(), failed.get(), Duration.ofNanos(busy.get()), elapsed);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package software.ulpgc.images.pipeline;
+
+import java.time.Duration;
+
+/**
+ * The statistics of one stage of a {@link RenditionPipeline} run.
+ *
+ * @param name      the name of the stage
+ * @param threads   the number of threads of the stage
+ * @param processed the number of items the stage completed
+ * @param failed    the number of items the stage failed to process
+ * @param busy      the total time the threads of the stage spent processing items
+ * @param elapsed   the wall-clock time of the whole run
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record StageStats(String name, int threads, long processed, long failed, Duration busy, Duration elapsed) {
+    /**
+     * Returns the fraction of the run its threads spent processing items rather than waiting for
+     * input or for room in the next queue.
+     *
+     * @return the utilization of the stage, between {@code 0} and {@code 1}
+     */
+    public double utilization() {
+        return elapsed.isZero() ? 0 : (double) busy.toNanos() / (elapsed.toNanos() * threads);
+    }
+
+    @Override
+    public String toString() {
+        return "%-8s %2d threads  %6d done  %4d failed  %5.1f%% busy".formatted(name, threads, processed, failed, utilization() * 100);
+    }
+}
@@ -0,0 +1,50 @@
+package software.ulpgc.images.resample;
+
+/**
+ * The inner loops of a {@link Resampler}, implemented once with scalar code and once with the
+ * vector API.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+interface Kernels {
+    /**
+     * The shifts of the red, green, blue and alpha channels in a packed pixel.
+     */
+    int[] SHIFTS = {16, 8, 0, 24};
+
+    /**
+     * Adds the weighted channels of a row of packed pixels to the given channel sums. With four
+     * channels, the colour channels are premultiplied by the alpha of their pixel, so transparent
+     * pixels do not bleed their colour into their neighbours.
+     *
+     * @param row      the packed pixels of the source row
+     * @param weight   the weight of the row
+     * @param channels the sums of each channel, one array per channel, as long as the row
+     */
+    void accumulate(int[] row, float weight, float[][] channels);
+
+    /**
+     * Weighs a row of values into a row of output values. Output value {@code x} is the sum, over
+     * every tap {@code k}, of {@code weights[k * width + x] * values[indexes[k * width + x]]}, where
+     * {@code width} is the length of the output row.
+     *
+     * @param values  the values of the source row
+     * @param indexes the index of the value under each tap of each output value, tap by tap
+     * @param weights the weight of each tap of each output value, tap by tap
+     * @param taps    the number of taps of every output value
+     * @param output  the output row
+     */
+    void convolve(float[] values, int[] indexes, float[] weights, int taps, float[] output);
+
+    /**
+     * Rounds and clamps the given channel values and packs them into pixels. With four channels, the
+     * colour channels are divided by the alpha back into straight, non-premultiplied colour.
+     *
+     * @param channels the values of each channel, one array per channel
+     * @param pixels   the packed pixels
+     * @param offset   the index of the first pixel to write
+     */
+    void pack(float[][] channels, int[] pixels, int offset);
+}
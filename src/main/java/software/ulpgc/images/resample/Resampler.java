@@ -0,0 +1,198 @@
+package software.ulpgc.images.resample;
+
+import software.ulpgc.images.architecture.model.ViewPort;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Resamples images to the size of a {@link ViewPort} with a separable {@link ResamplingFilter}.
+ * <p>
+ * The image is resampled over packed integer pixels in two passes for each output row: the source
+ * rows under the filter are weighed into a row of channel sums, and the sums under the filter are
+ * then weighed into each output pixel. The weights of both axes are computed once per image and
+ * normalized, so the result keeps the brightness of the source. Images with an alpha channel are
+ * resampled premultiplied, so the colour of transparent pixels does not darken or tint the edges of
+ * the opaque ones, and the result is divided back into straight alpha. Output rows are resampled in
+ * parallel bands on the common {@link ForkJoinPool}.
+ * </p>
+ * <p>
+ * The inner loops use the vector API when the {@code jdk.incubator.vector} module is present, which
+ * requires starting the virtual machine with {@code --add-modules jdk.incubator.vector}, and fall back
+ * to scalar loops otherwise.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class Resampler {
+    private static final boolean VECTOR_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    private static final int BANDS_PER_THREAD = 4;
+
+    private final ResamplingFilter filter;
+    private final Kernels kernels;
+
+    /**
+     * Constructs a new {@code Resampler} with the given filter, using the vector API when available.
+     *
+     * @param filter the {@link ResamplingFilter} to weigh source pixels with
+     */
+    public Resampler(ResamplingFilter filter) {
+        this(filter, VECTOR_AVAILABLE);
+    }
+
+    /**
+     * Constructs a new {@code Resampler} with the given filter.
+     *
+     * @param filter     the {@link ResamplingFilter} to weigh source pixels with
+     * @param vectorized whether to use the vector API rather than scalar loops
+     * @throws IllegalStateException if the vector API is requested but not available
+     */
+    public Resampler(ResamplingFilter filter, boolean vectorized) {
+        if (vectorized && !VECTOR_AVAILABLE) throw new IllegalStateException("The jdk.incubator.vector module is not available");
+        this.filter = filter;
+        this.kernels = vectorized ? new VectorKernels() : new ScalarKernels();
+    }
+
+    /**
+     * Tells whether the vector API can be used in this virtual machine.
+     *
+     * @return {@code true} if the {@code jdk.incubator.vector} module is present
+     */
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    /**
+     * Returns the filter of this resampler.
+     *
+     * @return the {@link ResamplingFilter}
+     */
+    public ResamplingFilter filter() {
+        return filter;
+    }
+
+    /**
+     * Resamples the given image to the size of the given viewport, into a new image with packed
+     * integer pixels that keeps the alpha channel of the source, if any.
+     *
+     * @param source   the image to resample
+     * @param viewPort the viewport whose size the image is resampled to
+     * @return a new {@link BufferedImage} of the size of the viewport
+     */
+    public BufferedImage resample(BufferedImage source, ViewPort viewPort) {
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        return resample(source, viewPort, new BufferedImage(Math.max(1, viewPort.width()), Math.max(1, viewPort.height()), type));
+    }
+
+    /**
+     * Resamples the given image into the given destination, whose size is that of the viewport the
+     * image is drawn into.
+     *
+     * @param source      the image to resample
+     * @param viewPort    the viewport the image is drawn into
+     * @param destination the image the result is written to, of the size of the viewport
+     * @return the destination
+     * @throws IllegalArgumentException if the destination does not have the size of the viewport
+     */
+    public BufferedImage resample(BufferedImage source, ViewPort viewPort, BufferedImage destination) {
+        int width = Math.max(1, viewPort.width());
+        int height = Math.max(1, viewPort.height());
+        if (destination.getWidth() != width || destination.getHeight() != height)
+            throw new IllegalArgumentException("Invalid destination: " + destination.getWidth() + "x" + destination.getHeight() + " for " + width + "x" + height);
+        Taps columns = weights(source.getWidth(), width).taps();
+        Weights rows = weights(source.getHeight(), height);
+        int channels = source.getColorModel().hasAlpha() && destination.getColorModel().hasAlpha() ? 4 : 3;
+        int band = Math.max(1, height / (ForkJoinPool.getCommonPoolParallelism() * BANDS_PER_THREAD));
+        IntStream.range(0, (height + band - 1) / band).parallel().forEach(index -> {
+            int from = index * band;
+            resampleBand(source, destination, columns, rows, channels, from, Math.min(height, from + band));
+        });
+        return destination;
+    }
+
+    // Private helper methods for resampling
+
+    private void resampleBand(BufferedImage source, BufferedImage destination, Taps columns, Weights rows, int channels, int from, int to) {
+        int sourceWidth = source.getWidth();
+        int width = destination.getWidth();
+        int[] row = new int[sourceWidth];
+        float[][] sums = new float[channels][sourceWidth];
+        float[][] output = new float[channels][width];
+        int[] pixels = new int[width * (to - from)];
+        for (int y = from; y < to; y++) {
+            for (float[] sum : sums) Arrays.fill(sum, 0);
+            for (int k = 0; k < rows.counts[y]; k++) {
+                readRow(source, rows.starts[y] + k, row);
+                kernels.accumulate(row, rows.values[y * rows.stride + k], sums);
+            }
+            for (int c = 0; c < channels; c++) kernels.convolve(sums[c], columns.indexes, columns.weights, columns.count, output[c]);
+            kernels.pack(output, pixels, (y - from) * width);
+        }
+        writeRows(destination, from, to - from, pixels);
+    }
+
+    private Weights weights(int sourceSize, int size) {
+        double scale = (double) sourceSize / size;
+        double stretch = Math.max(1, scale);
+        double support = filter.radius() * stretch;
+        int stride = (int) Math.ceil(support * 2) + 1;
+        int[] starts = new int[size];
+        int[] counts = new int[size];
+        float[] values = new float[size * stride];
+        for (int i = 0; i < size; i++) {
+            double center = (i + 0.5) * scale;
+            int start = Math.max(0, (int) Math.floor(center - support));
+            int end = Math.min(sourceSize, (int) Math.ceil(center + support));
+            double total = 0;
+            for (int j = start; j < end && j - start < stride; j++) total += filter.weight((j + 0.5 - center) / stretch);
+            if (total == 0) {
+                start = Math.min(sourceSize - 1, (int) center);
+                values[i * stride] = 1;
+                counts[i] = 1;
+            } else {
+                for (int j = start; j < end && j - start < stride; j++)
+                    values[i * stride + j - start] = (float) (filter.weight((j + 0.5 - center) / stretch) / total);
+                counts[i] = Math.min(end - start, stride);
+            }
+            starts[i] = start;
+        }
+        return new Weights(starts, counts, values, stride);
+    }
+
+    private static void readRow(BufferedImage source, int y, int[] row) {
+        if (isPacked(source)) source.getRaster().getDataElements(0, y, row.length, 1, row);
+        else source.getRGB(0, y, row.length, 1, row, 0, row.length);
+    }
+
+    private static void writeRows(BufferedImage destination, int y, int count, int[] pixels) {
+        int width = destination.getWidth();
+        if (isPacked(destination)) destination.getRaster().setDataElements(0, y, width, count, pixels);
+        else destination.setRGB(0, y, width, count, pixels, 0, width);
+    }
+
+    private static boolean isPacked(BufferedImage image) {
+        return image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_INT_ARGB;
+    }
+
+    private record Weights(int[] starts, int[] counts, float[] values, int stride) {
+        private Taps taps() {
+            int size = starts.length;
+            int[] indexes = new int[stride * size];
+            float[] weights = new float[stride * size];
+            for (int k = 0; k < stride; k++) {
+                for (int i = 0; i < size; i++) {
+                    indexes[k * size + i] = starts[i] + Math.min(k, counts[i] - 1);
+                    weights[k * size + i] = values[i * stride + k];
+                }
+            }
+            return new Taps(indexes, weights, stride);
+        }
+    }
+
+    private record Taps(int[] indexes, float[] weights, int count) {
+    }
+}
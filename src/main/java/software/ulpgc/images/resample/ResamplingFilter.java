@@ -0,0 +1,71 @@
+package software.ulpgc.images.resample;
+
+/**
+ * The reconstruction filters a {@link Resampler} can weigh source pixels with.
+ * <p>
+ * Each filter is defined by its weight as a function of the distance to the centre of an output
+ * pixel, in output pixels, and by the radius beyond which that weight is zero. When downscaling, the
+ * filter is stretched by the scale factor, so every source pixel contributes to the result.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public enum ResamplingFilter {
+    /**
+     * Averages the source pixels covered by each output pixel. The fastest filter, and the sharpest
+     * for large reductions, but blocky when enlarging.
+     */
+    BOX(0.5) {
+        @Override
+        public double weight(double distance) {
+            return distance >= -0.5 && distance < 0.5 ? 1 : 0;
+        }
+    },
+    /**
+     * Interpolates linearly between neighbouring pixels, a triangle filter when downscaling.
+     */
+    BILINEAR(1) {
+        @Override
+        public double weight(double distance) {
+            return Math.max(0, 1 - Math.abs(distance));
+        }
+    },
+    /**
+     * Weighs the pixels within three output pixels with a windowed sinc, which keeps fine detail
+     * without aliasing at the cost of a larger support.
+     */
+    LANCZOS3(3) {
+        @Override
+        public double weight(double distance) {
+            if (distance == 0) return 1;
+            if (Math.abs(distance) >= 3) return 0;
+            double x = Math.PI * distance;
+            return 3 * Math.sin(x) * Math.sin(x / 3) / (x * x);
+        }
+    };
+
+    private final double radius;
+
+    ResamplingFilter(double radius) {
+        this.radius = radius;
+    }
+
+    /**
+     * Returns the distance beyond which the weight of the filter is zero.
+     *
+     * @return the radius of the filter, in output pixels
+     */
+    public double radius() {
+        return radius;
+    }
+
+    /**
+     * Returns the weight of a source pixel at the given distance from the centre of an output pixel.
+     *
+     * @param distance the distance, in output pixels
+     * @return the unnormalized weight of the source pixel
+     */
+    public abstract double weight(double distance);
+}
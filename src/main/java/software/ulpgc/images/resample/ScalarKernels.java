@@ -0,0 +1,70 @@
+package software.ulpgc.images.resample;
+
+/**
+ * The scalar implementation of the {@link Kernels}, used when the vector API is not available.
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+final class ScalarKernels implements Kernels {
+    @Override
+    public void accumulate(int[] row, float weight, float[][] channels) {
+        if (channels.length == 4) {
+            accumulatePremultiplied(row, weight, channels);
+            return;
+        }
+        for (int c = 0; c < channels.length; c++) {
+            float[] channel = channels[c];
+            int shift = SHIFTS[c];
+            for (int x = 0; x < channel.length; x++) channel[x] += ((row[x] >>> shift) & 0xff) * weight;
+        }
+    }
+
+    @Override
+    public void convolve(float[] values, int[] indexes, float[] weights, int taps, float[] output) {
+        int width = output.length;
+        for (int x = 0; x < width; x++) {
+            float sum = 0;
+            for (int k = 0, i = x; k < taps; k++, i += width) sum += weights[i] * values[indexes[i]];
+            output[x] = sum;
+        }
+    }
+
+    @Override
+    public void pack(float[][] channels, int[] pixels, int offset) {
+        if (channels.length == 4) {
+            packPremultiplied(channels, pixels, offset);
+            return;
+        }
+        for (int x = 0; x < channels[0].length; x++) {
+            int pixel = 0xff000000;
+            for (int c = 0; c < channels.length; c++) pixel |= (int) (Math.clamp(channels[c][x], 0, 255) + 0.5f) << SHIFTS[c];
+            pixels[offset + x] = pixel;
+        }
+    }
+
+    // Private helper methods for images with an alpha channel
+
+    private static void accumulatePremultiplied(int[] row, float weight, float[][] channels) {
+        float[] alphas = channels[3];
+        for (int x = 0; x < alphas.length; x++) {
+            int pixel = row[x];
+            float alpha = (pixel >>> 24) * weight;
+            float premultiplied = alpha / 255;
+            for (int c = 0; c < 3; c++) channels[c][x] += ((pixel >>> SHIFTS[c]) & 0xff) * premultiplied;
+            alphas[x] += alpha;
+        }
+    }
+
+    private static void packPremultiplied(float[][] channels, int[] pixels, int offset) {
+        float[] alphas = channels[3];
+        for (int x = 0; x < alphas.length; x++) {
+            float alpha = Math.clamp(alphas[x], 0, 255);
+            float straight = alpha > 0 ? 255 / alpha : 0;
+            int pixel = (int) (alpha + 0.5f) << SHIFTS[3];
+            for (int c = 0; c < 3; c++) pixel |= (int) (Math.clamp(channels[c][x] * straight, 0, 255) + 0.5f) << SHIFTS[c];
+            pixels[offset + x] = pixel;
+        }
+    }
+}
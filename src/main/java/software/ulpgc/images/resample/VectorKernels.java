@@ -0,0 +1,144 @@
+package software.ulpgc.images.resample;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The implementation of the {@link Kernels} with the vector API of {@code jdk.incubator.vector}.
+ * <p>
+ * Every loop runs across a full vector of pixels at a time, with a scalar loop for the remainder:
+ * rows are unpacked and accumulated lane by lane, output values gather the values under each tap,
+ * and channels are packed back lane by lane. Integer and float lanes have the same width, so a
+ * vector of pixels converts into a vector of channel values of the same length. With an alpha
+ * channel, the colour lanes are premultiplied by the alpha lanes as they are accumulated, and divided
+ * by them as they are packed.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+final class VectorKernels implements Kernels {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public void accumulate(int[] row, float weight, float[][] channels) {
+        if (channels.length == 4) {
+            accumulatePremultiplied(row, weight, channels);
+            return;
+        }
+        int width = row.length;
+        int bound = INTS.loopBound(width);
+        FloatVector weights = FloatVector.broadcast(FLOATS, weight);
+        for (int x = 0; x < bound; x += INTS.length()) {
+            IntVector pixels = IntVector.fromArray(INTS, row, x);
+            for (int c = 0; c < channels.length; c++) {
+                FloatVector value = (FloatVector) pixels.lanewise(VectorOperators.LSHR, SHIFTS[c])
+                        .lanewise(VectorOperators.AND, 0xff)
+                        .convert(VectorOperators.I2F, 0);
+                value.fma(weights, FloatVector.fromArray(FLOATS, channels[c], x)).intoArray(channels[c], x);
+            }
+        }
+        for (int c = 0; c < channels.length; c++)
+            for (int x = bound; x < width; x++) channels[c][x] += ((row[x] >>> SHIFTS[c]) & 0xff) * weight;
+    }
+
+    @Override
+    public void convolve(float[] values, int[] indexes, float[] weights, int taps, float[] output) {
+        int width = output.length;
+        int bound = FLOATS.loopBound(width);
+        for (int x = 0; x < bound; x += FLOATS.length()) {
+            FloatVector sums = FloatVector.zero(FLOATS);
+            for (int k = 0, i = x; k < taps; k++, i += width)
+                sums = FloatVector.fromArray(FLOATS, values, 0, indexes, i).fma(FloatVector.fromArray(FLOATS, weights, i), sums);
+            sums.intoArray(output, x);
+        }
+        for (int x = bound; x < width; x++) {
+            float sum = 0;
+            for (int k = 0, i = x; k < taps; k++, i += width) sum += weights[i] * values[indexes[i]];
+            output[x] = sum;
+        }
+    }
+
+    @Override
+    public void pack(float[][] channels, int[] pixels, int offset) {
+        if (channels.length == 4) {
+            packPremultiplied(channels, pixels, offset);
+            return;
+        }
+        int width = channels[0].length;
+        int bound = FLOATS.loopBound(width);
+        for (int x = 0; x < bound; x += FLOATS.length()) {
+            IntVector pixel = IntVector.broadcast(INTS, 0xff000000);
+            for (int c = 0; c < channels.length; c++) {
+                IntVector value = (IntVector) FloatVector.fromArray(FLOATS, channels[c], x)
+                        .max(0).min(255).add(0.5f)
+                        .convert(VectorOperators.F2I, 0);
+                pixel = pixel.or(value.lanewise(VectorOperators.LSHL, SHIFTS[c]));
+            }
+            pixel.intoArray(pixels, offset + x);
+        }
+        for (int x = bound; x < width; x++) {
+            int pixel = 0xff000000;
+            for (int c = 0; c < channels.length; c++) pixel |= (int) (Math.clamp(channels[c][x], 0, 255) + 0.5f) << SHIFTS[c];
+            pixels[offset + x] = pixel;
+        }
+    }
+
+    // Private helper methods for images with an alpha channel
+
+    private static void accumulatePremultiplied(int[] row, float weight, float[][] channels) {
+        int width = row.length;
+        int bound = INTS.loopBound(width);
+        float[] alphas = channels[3];
+        for (int x = 0; x < bound; x += INTS.length()) {
+            IntVector pixels = IntVector.fromArray(INTS, row, x);
+            FloatVector alpha = ((FloatVector) pixels.lanewise(VectorOperators.LSHR, SHIFTS[3]).convert(VectorOperators.I2F, 0)).mul(weight);
+            FloatVector premultiplied = alpha.mul(1f / 255);
+            for (int c = 0; c < 3; c++) {
+                FloatVector value = (FloatVector) pixels.lanewise(VectorOperators.LSHR, SHIFTS[c])
+                        .lanewise(VectorOperators.AND, 0xff)
+                        .convert(VectorOperators.I2F, 0);
+                value.fma(premultiplied, FloatVector.fromArray(FLOATS, channels[c], x)).intoArray(channels[c], x);
+            }
+            alpha.add(FloatVector.fromArray(FLOATS, alphas, x)).intoArray(alphas, x);
+        }
+        for (int x = bound; x < width; x++) {
+            int pixel = row[x];
+            float alpha = (pixel >>> 24) * weight;
+            float premultiplied = alpha / 255;
+            for (int c = 0; c < 3; c++) channels[c][x] += ((pixel >>> SHIFTS[c]) & 0xff) * premultiplied;
+            alphas[x] += alpha;
+        }
+    }
+
+    private static void packPremultiplied(float[][] channels, int[] pixels, int offset) {
+        float[] alphas = channels[3];
+        int width = alphas.length;
+        int bound = FLOATS.loopBound(width);
+        for (int x = 0; x < bound; x += FLOATS.length()) {
+            FloatVector alpha = FloatVector.fromArray(FLOATS, alphas, x).max(0).min(255);
+            VectorMask<Float> transparent = alpha.compare(VectorOperators.EQ, 0);
+            FloatVector straight = FloatVector.broadcast(FLOATS, 255).div(alpha).blend(0, transparent);
+            IntVector pixel = ((IntVector) alpha.add(0.5f).convert(VectorOperators.F2I, 0)).lanewise(VectorOperators.LSHL, SHIFTS[3]);
+            for (int c = 0; c < 3; c++) {
+                IntVector value = (IntVector) FloatVector.fromArray(FLOATS, channels[c], x).mul(straight)
+                        .max(0).min(255).add(0.5f)
+                        .convert(VectorOperators.F2I, 0);
+                pixel = pixel.or(value.lanewise(VectorOperators.LSHL, SHIFTS[c]));
+            }
+            pixel.intoArray(pixels, offset + x);
+        }
+        for (int x = bound; x < width; x++) {
+            float alpha = Math.clamp(alphas[x], 0, 255);
+            float straight = alpha > 0 ? 255 / alpha : 0;
+            int pixel = (int) (alpha + 0.5f) << SHIFTS[3];
+            for (int c = 0; c < 3; c++) pixel |= (int) (Math.clamp(channels[c][x] * straight, 0, 255) + 0.5f) << SHIFTS[c];
+            pixels[offset + x] = pixel;
+        }
+    }
+}
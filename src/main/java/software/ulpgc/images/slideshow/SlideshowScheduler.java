@@ -0,0 +1,320 @@
+package software.ulpgc.images.slideshow;
+
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.metrics.LatencyHistogram;
+import software.ulpgc.images.metrics.Metrics;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Plays the pictures of a sequence as a slideshow, switching to the next {@link Picture} at a fixed
+ * interval and preparing each one early enough to meet its deadline.
+ * <p>
+ * Every slide has a deadline, one interval after the deadline of the slide before it. A slide starts
+ * being prepared, which typically fetches and decodes it at the display size, a lead time before its
+ * deadline. The lead time follows the observed preparation times: it is their 99th percentile with a
+ * safety margin, so the scheduler starts early for slow sources and late for cached ones. When the lead
+ * time exceeds the interval, several slides are planned and prepared ahead of the displayed one.
+ * </p>
+ * <p>
+ * The deadline of a slide is the time it must appear on screen. The display reports the first paint of
+ * each slide through {@link #painted(Picture, long)}, and the lateness of a slide is measured from its
+ * deadline to that paint. Slides are switched by a dedicated high-priority clock thread ahead of their
+ * absolute deadlines, by the observed time from a switch to its paint, so the paint lands on the
+ * deadline and delays do not accumulate over a long show.
+ * </p>
+ * <p>
+ * A slide painted more than a frame after its deadline is a missed deadline, and so is a slide that is
+ * not ready when it is due: it is counted and logged, shown as soon as it is ready, and the deadlines
+ * of the following slides move by the same delay, so each of them is still displayed for a whole
+ * interval.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class SlideshowScheduler implements AutoCloseable {
+    /**
+     * The default interval between two slides, 3 seconds.
+     */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(3);
+    private static final double SAFETY_FACTOR = 1.5;
+    private static final long SWITCH_SLACK = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long FRAME_TOLERANCE = TimeUnit.MILLISECONDS.toNanos(17);
+    private static final int MINIMUM_SAMPLES = 3;
+    private static final int MAXIMUM_LOOKAHEAD = 8;
+    private static final System.Logger LOGGER = System.getLogger(SlideshowScheduler.class.getName());
+
+    private final long interval;
+    private final Consumer<Picture> preparer;
+    private final Consumer<Picture> display;
+    private final ScheduledExecutorService clock;
+    private final ExecutorService preparers;
+    private final LatencyHistogram preparations = new LatencyHistogram();
+    private final LatencyHistogram lateness = new LatencyHistogram();
+    private final LatencyHistogram switches = new LatencyHistogram();
+    private final Deque<Slide> planned = new ArrayDeque<>();
+    private Picture current = Picture.None;
+    private ScheduledFuture<?> nextSwitch;
+    private Slide onScreen;
+    private long generation;
+    private boolean running;
+    private long shown;
+    private long missed;
+
+    /**
+     * Constructs a new {@code SlideshowScheduler}.
+     *
+     * @param interval the time each slide is displayed for
+     * @param preparer the action that prepares a slide for display, such as decoding it and scaling it
+     *                 to the display size; it runs on the preparing threads and may block
+     * @param display  the action that switches the display to a slide; it runs on the clock thread and
+     *                 must return quickly, and the display is expected to report the first paint of the
+     *                 slide through {@link #painted(Picture, long)}
+     * @param threads  the number of threads preparing slides
+     * @throws IllegalArgumentException if the interval or the number of threads are not positive
+     */
+    public SlideshowScheduler(Duration interval, Consumer<Picture> preparer, Consumer<Picture> display, int threads) {
+        if (interval.isNegative() || interval.isZero() || threads <= 0)
+            throw new IllegalArgumentException("Invalid slideshow: " + interval + " per slide, " + threads + " threads");
+        this.interval = interval.toNanos();
+        this.preparer = preparer;
+        this.display = display;
+        this.clock = Executors.newSingleThreadScheduledExecutor(daemonThreads("slideshow-clock", Thread.MAX_PRIORITY));
+        this.preparers = Executors.newFixedThreadPool(threads, daemonThreads("slideshow-preparer", Thread.NORM_PRIORITY));
+    }
+
+    /**
+     * Returns the time each slide is displayed for.
+     *
+     * @return the interval between two slides
+     */
+    public Duration interval() {
+        return Duration.ofNanos(interval);
+    }
+
+    /**
+     * Starts the slideshow after the given picture, which is assumed to be displayed already. The
+     * slide that follows it is due one interval from now. A slideshow already running is restarted,
+     * so a manual navigation gives the picture navigated to a whole interval.
+     *
+     * @param picture the picture being displayed
+     */
+    public synchronized void start(Picture picture) {
+        cancel();
+        running = true;
+        current = picture;
+        plan(System.nanoTime());
+    }
+
+    /**
+     * Stops the slideshow, cancelling the slides planned ahead.
+     */
+    public synchronized void stop() {
+        cancel();
+        running = false;
+    }
+
+    /**
+     * Records the first paint of a slide, which measures its lateness and tells whether it missed its
+     * deadline. Paints of pictures other than the slide switched to last are ignored.
+     *
+     * @param picture   the painted picture
+     * @param paintedAt the {@link System#nanoTime()} reading at the paint
+     */
+    public synchronized void painted(Picture picture, long paintedAt) {
+        if (onScreen == null || !onScreen.picture.id().equals(picture.id())) return;
+        long late = paintedAt - onScreen.deadline + onScreen.shift;
+        lateness.record(late);
+        switches.record(paintedAt - onScreen.switchedAt);
+        Metrics.global().latency("slideshow.late").record(late);
+        if (!onScreen.missed && late > FRAME_TOLERANCE) {
+            missed++;
+            LOGGER.log(System.Logger.Level.WARNING, "The slide {0} was painted {1} ms after its deadline", picture.id(), late / 1_000_000);
+        }
+        onScreen = null;
+    }
+
+    /**
+     * Tells whether the slideshow is playing.
+     *
+     * @return {@code true} if the slideshow was started and not stopped since
+     */
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the time a slide currently starts being prepared before its deadline.
+     *
+     * @return the lead time of the preparations
+     */
+    public Duration leadTime() {
+        return Duration.ofNanos(leadNanos());
+    }
+
+    /**
+     * Returns the time a slide is currently switched to before its deadline, so that it is painted on time.
+     *
+     * @return the lead time of the switches
+     */
+    public Duration switchLead() {
+        return Duration.ofNanos(switchLeadNanos());
+    }
+
+    /**
+     * Returns a snapshot of the slideshow statistics.
+     *
+     * @return the current {@link SlideshowStats}
+     */
+    public synchronized SlideshowStats stats() {
+        return new SlideshowStats(shown, missed, Duration.ofNanos(lateness.percentile(0.99)),
+                Duration.ofNanos(lateness.max()), leadTime(), switchLead(), lookahead());
+    }
+
+    /**
+     * Stops the slideshow and its threads.
+     */
+    @Override
+    public synchronized void close() {
+        stop();
+        clock.shutdownNow();
+        preparers.shutdownNow();
+    }
+
+    // Private helper methods for planning and switching slides
+
+    private void plan(long anchor) {
+        long lead = leadNanos() + switchLeadNanos();
+        for (int lookahead = lookahead(); planned.size() < lookahead; ) {
+            Picture previous = planned.isEmpty() ? current : planned.getLast().picture;
+            Picture picture = previous.next();
+            if (picture == Picture.None) break;
+            Slide slide = new Slide(picture, (planned.isEmpty() ? anchor : planned.getLast().deadline) + interval);
+            slide.start = clock.schedule(() -> prepare(slide), slide.deadline - lead - System.nanoTime(), TimeUnit.NANOSECONDS);
+            planned.addLast(slide);
+        }
+        scheduleSwitch();
+    }
+
+    private synchronized void prepare(Slide slide) {
+        if (slide.cancelled) return;
+        slide.preparation = preparers.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                preparer.accept(slide.picture);
+                slide.ready.complete(null);
+            } catch (Throwable e) {
+                slide.ready.completeExceptionally(e);
+            }
+            preparations.recordSince(start);
+            Metrics.global().latency("slideshow.prepare").recordSince(start);
+        });
+    }
+
+    private void scheduleSwitch() {
+        if (planned.isEmpty() || nextSwitch != null) return;
+        long scheduled = generation;
+        long switchAt = planned.getFirst().deadline - switchLeadNanos();
+        nextSwitch = clock.schedule(() -> due(scheduled), switchAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private synchronized void due(long scheduled) {
+        if (scheduled != generation) return;
+        nextSwitch = null;
+        Slide slide = planned.getFirst();
+        if (slide.ready.isDone()) {
+            switchTo(slide);
+            return;
+        }
+        slide.missed = true;
+        missed++;
+        LOGGER.log(System.Logger.Level.WARNING, "The slide {0} was not ready at its deadline", slide.picture.id());
+        slide.ready.whenComplete((_, _) -> clock.execute(() -> late(scheduled, slide)));
+    }
+
+    private synchronized void late(long scheduled, Slide slide) {
+        if (scheduled != generation) return;
+        long delay = Math.max(0, System.nanoTime() + switchLeadNanos() - slide.deadline);
+        for (Slide next : planned) next.deadline += delay;
+        slide.shift = delay;
+        switchTo(slide);
+    }
+
+    private void switchTo(Slide slide) {
+        planned.removeFirst();
+        slide.switchedAt = System.nanoTime();
+        onScreen = slide;
+        shown++;
+        display.accept(current = slide.picture);
+        plan(slide.deadline);
+    }
+
+    private void cancel() {
+        generation++;
+        if (nextSwitch != null) nextSwitch.cancel(false);
+        nextSwitch = null;
+        for (Slide slide : planned) slide.cancel();
+        planned.clear();
+        onScreen = null;
+    }
+
+    private long leadNanos() {
+        long observed = preparations.count() >= MINIMUM_SAMPLES ? preparations.percentile(0.99) : Metrics.global().decode().percentile(0.99);
+        return observed == 0 ? interval : (long) (observed * SAFETY_FACTOR) + SWITCH_SLACK;
+    }
+
+    private long switchLeadNanos() {
+        return switches.count() >= MINIMUM_SAMPLES ? Math.min(switches.percentile(0.99), interval / 2) : 0;
+    }
+
+    private int lookahead() {
+        return Math.clamp(leadNanos() / interval + 1, 1, MAXIMUM_LOOKAHEAD);
+    }
+
+    private static ThreadFactory daemonThreads(String name, int priority) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        };
+    }
+
+    private static final class Slide {
+        private final Picture picture;
+        private final CompletableFuture<Void> ready = new CompletableFuture<>();
+        private ScheduledFuture<?> start;
+        private Future<?> preparation;
+        private boolean cancelled;
+        private boolean missed;
+        private long deadline;
+        private long switchedAt;
+        private long shift;
+
+        private Slide(Picture picture, long deadline) {
+            this.picture = picture;
+            this.deadline = deadline;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            start.cancel(false);
+            if (preparation != null) preparation.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package software.ulpgc.images.slideshow;
+
+import java.time.Duration;
+
+/**
+ * An immutable snapshot of the statistics of a {@link SlideshowScheduler}.
+ *
+ * @param shown      the number of slides switched to
+ * @param missed     the number of slides that were not ready when due, or were painted more than a frame late
+ * @param p99Late    the 99th percentile of the delay between the deadline of a slide and its first paint
+ * @param maxLate    the largest delay between the deadline of a slide and its first paint
+ * @param leadTime   the current time a slide starts being prepared before it is switched to
+ * @param switchLead the current time a slide is switched to before its deadline
+ * @param lookahead  the current number of slides planned ahead of the displayed one
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record SlideshowStats(long shown, long missed, Duration p99Late, Duration maxLate, Duration leadTime, Duration switchLead, int lookahead) {
+    /**
+     * Returns the fraction of slides that missed their deadline.
+     *
+     * @return the miss ratio between {@code 0} and {@code 1}, or {@code 0} if no slide was shown
+     */
+    public double missRatio() {
+        return shown == 0 ? 0 : (double) missed / shown;
+    }
+
+    @Override
+    public String toString() {
+        return "%d slides, %d missed (%.1f%%), late p99=%.2fms max=%.2fms, lead %.1fms, switch lead %.1fms, %d ahead".formatted(
+                shown, missed, missRatio() * 100, p99Late.toNanos() / 1e6, maxLate.toNanos() / 1e6,
+                leadTime.toNanos() / 1e6, switchLead.toNanos() / 1e6, lookahead);
+    }
+}
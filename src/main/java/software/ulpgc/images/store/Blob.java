@@ -0,0 +1,16 @@
+package software.ulpgc.images.store;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The compressed bytes of an image, stored once and shared by every copy of the image.
+ *
+ * @param key     the identifier of the content, derived from its hash
+ * @param content a read-only view of the stored bytes
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record Blob(String key, ByteBuffer content) {
+}
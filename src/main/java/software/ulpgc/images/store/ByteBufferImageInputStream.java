@@ -0,0 +1,94 @@
+package software.ulpgc.images.store;
+
+import javax.imageio.stream.ImageInputStreamImpl;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link javax.imageio.stream.ImageInputStream} that reads directly from a {@link ByteBuffer}.
+ * <p>
+ * Unlike wrapping the bytes in an {@link java.io.InputStream}, no data is copied into an intermediate
+ * cache, so heap, direct and memory-mapped buffers can be decoded in place. The stream reads the
+ * remaining bytes of the buffer without modifying its position.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class ByteBufferImageInputStream extends ImageInputStreamImpl {
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructs a new {@code ByteBufferImageInputStream} over the remaining bytes of the given buffer.
+     *
+     * @param buffer the buffer to read from
+     */
+    public ByteBufferImageInputStream(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+    }
+
+    /**
+     * Reads a single byte from the buffer.
+     *
+     * @return the byte read, or {@code -1} at the end of the buffer
+     * @throws IOException if the stream has been closed
+     */
+    @Override
+    public int read() throws IOException {
+        checkClosed();
+        bitOffset = 0;
+        if (streamPos >= buffer.limit()) return -1;
+        return buffer.get((int) streamPos++) & 0xFF;
+    }
+
+    /**
+     * Reads up to {@code length} bytes from the buffer into the given array.
+     *
+     * @param bytes  the destination array
+     * @param offset the offset in the destination array
+     * @param length the maximum number of bytes to read
+     * @return the number of bytes read, or {@code -1} at the end of the buffer
+     * @throws IOException if the stream has been closed
+     */
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        checkClosed();
+        bitOffset = 0;
+        if (streamPos >= buffer.limit()) return -1;
+        int count = (int) Math.min(length, buffer.limit() - streamPos);
+        buffer.get((int) streamPos, bytes, offset, count);
+        streamPos += count;
+        return count;
+    }
+
+    /**
+     * Returns the number of bytes in the buffer.
+     *
+     * @return the length of the stream
+     */
+    @Override
+    public long length() {
+        return buffer.limit();
+    }
+
+    /**
+     * Returns {@code true}, since the whole stream is held in memory.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isCached() {
+        return true;
+    }
+
+    /**
+     * Returns {@code true}, since the whole stream is held in memory.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isCachedMemory() {
+        return true;
+    }
+}
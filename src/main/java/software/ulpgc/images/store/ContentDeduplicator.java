@@ -0,0 +1,176 @@
+package software.ulpgc.images.store;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a single copy of identical image payloads.
+ * <p>
+ * Every payload is hashed with a fast 64-bit non-cryptographic hash, which reads the bytes eight at a
+ * time at several gigabytes per second, instead of the much slower SHA-256 used to address an
+ * {@link ImageStore}. A hash match is only a candidate: the bytes of the payload are compared with
+ * those of the stored blob to confirm the duplicate, so two different payloads with the same hash are
+ * kept apart. A duplicate resolves to the {@link Blob} already stored, which shares its bytes and,
+ * through the key of the blob, its decoded image with every other copy.
+ * </p>
+ * <p>
+ * The deduplicator may also be given a budget of refetches, which lets a loader of random images
+ * replace a duplicate with another image instead of showing the same image twice.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class ContentDeduplicator {
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+    private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+    private final Map<Long, List<Blob>> blobs = new HashMap<>();
+    private int refetchBudget;
+    private long payloads;
+    private long duplicates;
+    private long shared;
+    private long collisions;
+    private long bytes;
+    private long bytesSaved;
+    private long refetches;
+
+    /**
+     * Constructs a new {@code ContentDeduplicator} that never refetches duplicates.
+     */
+    public ContentDeduplicator() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new {@code ContentDeduplicator}.
+     *
+     * @param refetchBudget the number of duplicates that may be replaced by fetching another image
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public ContentDeduplicator(int refetchBudget) {
+        if (refetchBudget < 0) throw new IllegalArgumentException("Invalid refetch budget: " + refetchBudget);
+        this.refetchBudget = refetchBudget;
+    }
+
+    /**
+     * Looks up the blob holding the same bytes as the given payload, and records the lookup in the
+     * statistics. A duplicate only saves work once it is {@link #shared(ByteBuffer) shared}.
+     *
+     * @param content the payload
+     * @return the stored {@link Blob}, or {@code null} if the payload is new
+     */
+    public synchronized Blob find(ByteBuffer content) {
+        payloads++;
+        bytes += content.remaining();
+        for (Blob blob : blobs.getOrDefault(hashOf(content), List.of())) {
+            if (blob.content().equals(content)) {
+                duplicates++;
+                return blob;
+            }
+            collisions++;
+        }
+        return null;
+    }
+
+    /**
+     * Records that a duplicate payload is kept as the blob it was found to be identical to, rather
+     * than replaced by another image, so that its bytes are not stored and it is not decoded again.
+     *
+     * @param content the duplicate payload
+     */
+    public synchronized void shared(ByteBuffer content) {
+        shared++;
+        bytesSaved += content.remaining();
+    }
+
+    /**
+     * Adds a stored blob, such as one stored in a previous session, so later payloads with the same
+     * bytes resolve to it.
+     *
+     * @param blob the {@link Blob} to add
+     */
+    public synchronized void add(Blob blob) {
+        blobs.computeIfAbsent(hashOf(blob.content()), _ -> new ArrayList<>(1)).add(blob);
+    }
+
+    /**
+     * Returns the key of a new blob with the given bytes: the hexadecimal hash of the bytes, followed
+     * by a suffix when blobs with different bytes already have the same hash.
+     *
+     * @param content the payload
+     * @return the key of the payload
+     */
+    public synchronized String keyOf(ByteBuffer content) {
+        long hash = hashOf(content);
+        int taken = blobs.getOrDefault(hash, List.of()).size();
+        String key = "%016x".formatted(hash);
+        return taken == 0 ? key : key + "-" + taken;
+    }
+
+    /**
+     * Takes one refetch from the budget, if any is left.
+     *
+     * @return {@code true} if a duplicate may be replaced by fetching another image
+     */
+    public synchronized boolean claimRefetch() {
+        if (refetchBudget == 0) return false;
+        refetchBudget--;
+        refetches++;
+        return true;
+    }
+
+    /**
+     * Returns the number of distinct blobs.
+     *
+     * @return the number of blobs
+     */
+    public synchronized int count() {
+        return blobs.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Returns the statistics of this deduplicator.
+     *
+     * @return a {@link DeduplicationStats} snapshot
+     */
+    public synchronized DeduplicationStats stats() {
+        return new DeduplicationStats(payloads, duplicates, shared, collisions, bytes, bytesSaved, refetches);
+    }
+
+    /**
+     * Computes the 64-bit hash of the remaining bytes of the given buffer, without changing its
+     * position. The hash follows the structure of xxHash64 with a single lane: the bytes are mixed
+     * eight at a time, then the tail, and the result is avalanched.
+     *
+     * @param content the bytes to hash
+     * @return the hash of the bytes
+     */
+    public static long hashOf(ByteBuffer content) {
+        ByteBuffer bytes = content.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int position = bytes.position();
+        int limit = bytes.limit();
+        long hash = PRIME_5 + (limit - position);
+        for (; position + Long.BYTES <= limit; position += Long.BYTES) {
+            hash ^= Long.rotateLeft(bytes.getLong(position) * PRIME_2, 31) * PRIME_1;
+            hash = Long.rotateLeft(hash, 27) * PRIME_1 + PRIME_4;
+        }
+        for (; position < limit; position++) {
+            hash ^= (bytes.get(position) & 0xFFL) * PRIME_5;
+            hash = Long.rotateLeft(hash, 11) * PRIME_1;
+        }
+        hash ^= hash >>> 33;
+        hash *= PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME_3;
+        return hash ^ hash >>> 32;
+    }
+}
@@ -0,0 +1,49 @@
+package software.ulpgc.images.store;
+
+/**
+ * An immutable snapshot of the statistics of a {@link ContentDeduplicator}.
+ *
+ * @param payloads   the number of payloads looked up
+ * @param duplicates the number of payloads identical to a stored blob
+ * @param shared     the number of duplicates kept as their stored blob rather than refetched
+ * @param collisions the number of hash matches whose bytes turned out to differ
+ * @param bytes      the number of bytes of the payloads looked up
+ * @param bytesSaved the number of bytes of the shared duplicates, which were not stored again
+ * @param refetches  the number of duplicates replaced by fetching another image
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public record DeduplicationStats(long payloads, long duplicates, long shared, long collisions, long bytes, long bytesSaved, long refetches) {
+    /**
+     * Returns the fraction of payloads that were duplicates.
+     *
+     * @return the deduplication ratio between {@code 0} and {@code 1}, or {@code 0} if no payload was looked up
+     */
+    public double ratio() {
+        return payloads == 0 ? 0 : (double) duplicates / payloads;
+    }
+
+    /**
+     * Returns the number of decodes saved, as every shared duplicate shares the decoded image of its
+     * blob instead of being decoded on its own. Refetched duplicates save nothing, since the image
+     * that replaces them is stored and decoded.
+     *
+     * @return the number of decodes saved
+     */
+    public long decodesSaved() {
+        return shared;
+    }
+
+    /**
+     * Formats the statistics.
+     *
+     * @return a human-readable summary of the statistics
+     */
+    @Override
+    public String toString() {
+        return "payloads=%d duplicates=%d (%.1f%%) saved=%dKiB decodesSaved=%d collisions=%d refetches=%d"
+                .formatted(payloads, duplicates, ratio() * 100, bytesSaved >> 10, decodesSaved(), collisions, refetches);
+    }
+}
@@ -0,0 +1,172 @@
+package software.ulpgc.images.store;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An off-heap arena for the compressed bytes of a collection of images.
+ * <p>
+ * Images are copied into large slabs of native memory allocated from a shared {@link Arena}, and
+ * addressed by the position they were added at through an index of slab, offset and length. Reads
+ * return read-only {@link ByteBuffer} views of the slabs, so the bytes are decoded in place and never
+ * copied back onto the heap. The heap only holds the index, so neither its size nor the work of the
+ * garbage collector grows with the number of images. The native memory is released when the arena
+ * is closed, after which the buffers it returned must no longer be read.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class ImageArena implements AutoCloseable {
+    /**
+     * The default size of the slabs the arena allocates, 16 MiB.
+     */
+    public static final long DEFAULT_SLAB_SIZE = 16L * 1024 * 1024;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Arena arena = Arena.ofShared();
+    private final long slabSize;
+    private final List<MemorySegment> slabs = new ArrayList<>();
+    private int[] slabOf = new int[INITIAL_CAPACITY];
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int count;
+    private long used;
+    private long allocated;
+    private long top;
+
+    /**
+     * Constructs a new {@code ImageArena} with the {@link #DEFAULT_SLAB_SIZE}.
+     */
+    public ImageArena() {
+        this(DEFAULT_SLAB_SIZE);
+    }
+
+    /**
+     * Constructs a new {@code ImageArena}.
+     *
+     * @param slabSize the size of the slabs of native memory; larger images get a slab of their own
+     * @throws IllegalArgumentException if the slab size is not positive
+     */
+    public ImageArena(long slabSize) {
+        if (slabSize <= 0) throw new IllegalArgumentException("Invalid slab size: " + slabSize);
+        this.slabSize = slabSize;
+    }
+
+    /**
+     * Copies the given compressed image into the arena.
+     *
+     * @param content the compressed image bytes
+     * @return the index of the image in the arena
+     */
+    public int add(byte[] content) {
+        return add(MemorySegment.ofArray(content));
+    }
+
+    /**
+     * Copies the remaining bytes of the given buffer into the arena, without changing its position.
+     *
+     * @param content the buffer holding the compressed image bytes
+     * @return the index of the image in the arena
+     */
+    public int add(ByteBuffer content) {
+        return add(MemorySegment.ofBuffer(content));
+    }
+
+    /**
+     * Returns a read-only view of the bytes of the image at the given index.
+     *
+     * @param index the index of the image
+     * @return a read-only {@link ByteBuffer} over the native memory of the image
+     * @throws IndexOutOfBoundsException if no image was added at the index
+     * @throws IllegalStateException if the arena is closed
+     */
+    public synchronized ByteBuffer get(int index) {
+        if (index < 0 || index >= count) throw new IndexOutOfBoundsException("No image at " + index + " of " + count);
+        return slabs.get(slabOf[index]).asSlice(offsets[index], lengths[index]).asByteBuffer().asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns read-only views of the bytes of every image, in the order they were added.
+     *
+     * @return the {@link ByteBuffer}s of the images
+     */
+    public synchronized List<ByteBuffer> all() {
+        List<ByteBuffer> buffers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) buffers.add(get(i));
+        return buffers;
+    }
+
+    /**
+     * Returns the number of images in the arena.
+     *
+     * @return the number of images
+     */
+    public synchronized int count() {
+        return count;
+    }
+
+    /**
+     * Returns the number of compressed bytes held by the arena.
+     *
+     * @return the number of bytes of the images
+     */
+    public synchronized long size() {
+        return used;
+    }
+
+    /**
+     * Returns the number of bytes of native memory allocated by the arena.
+     *
+     * @return the total size of the slabs
+     */
+    public synchronized long allocatedSize() {
+        return allocated;
+    }
+
+    /**
+     * Releases the native memory of the arena.
+     */
+    @Override
+    public synchronized void close() {
+        arena.close();
+    }
+
+    // Private helper methods for allocating slabs
+
+    private synchronized int add(MemorySegment content) {
+        long length = content.byteSize();
+        if (length > Integer.MAX_VALUE) throw new IllegalArgumentException("Image too large: " + length + " bytes");
+        MemorySegment slab = slabFor(length);
+        long offset = top;
+        MemorySegment.copy(content, 0, slab, offset, length);
+        top += length;
+        ensureCapacity();
+        slabOf[count] = slabs.size() - 1;
+        offsets[count] = offset;
+        lengths[count] = (int) length;
+        used += length;
+        return count++;
+    }
+
+    private MemorySegment slabFor(long length) {
+        if (!slabs.isEmpty() && slabs.getLast().byteSize() - top >= length) return slabs.getLast();
+        MemorySegment slab = arena.allocate(Math.max(slabSize, length), 1);
+        slabs.add(slab);
+        allocated += slab.byteSize();
+        top = 0;
+        return slab;
+    }
+
+    private void ensureCapacity() {
+        if (count < offsets.length) return;
+        slabOf = Arrays.copyOf(slabOf, count * 2);
+        offsets = Arrays.copyOf(offsets, count * 2);
+        lengths = Arrays.copyOf(lengths, count * 2);
+    }
+}
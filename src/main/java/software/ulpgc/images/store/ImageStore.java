@@ -0,0 +1,305 @@
+package software.ulpgc.images.store;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A persistent, content-addressed store for compressed image bytes.
+ * <p>
+ * Images are appended to a single segment file and addressed by the SHA-256 hash of their content,
+ * so storing the same image twice keeps a single copy. An index file records the position of every
+ * image in the segment. Reads return read-only slices of a memory-mapped view of the segment, so
+ * no bytes are copied onto the heap.
+ * </p>
+ * <p>
+ * When the segment grows beyond the capacity of the store, the oldest images are evicted and the
+ * segment is compacted. Buffers returned before a compaction remain readable. A compaction writes the
+ * new segment and its index next to the current ones, and commits them by atomically moving the index
+ * to a staged name before moving either file into place; a store opened after a crash finishes a
+ * committed compaction and discards an uncommitted one, so the index never points into the wrong segment.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class ImageStore implements AutoCloseable {
+    /**
+     * The default capacity of the store, 512 MiB of compressed image bytes.
+     */
+    public static final long DEFAULT_CAPACITY = 512L * 1024 * 1024;
+    private static final String SEGMENT = "images.segment";
+    private static final String INDEX = "images.index";
+    private static final String COMPACTED = ".compacted";
+    private static final int HASH_LENGTH = 32;
+
+    private final Path directory;
+    private final long capacity;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private FileChannel segment;
+    private DataOutputStream index;
+    private MappedByteBuffer mapped;
+    private long length;
+
+    private ImageStore(Path directory, long capacity) {
+        this.directory = directory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Opens the store in the given directory with the {@link #DEFAULT_CAPACITY}, creating it if needed.
+     *
+     * @param directory the directory holding the store files
+     * @return the opened {@code ImageStore}
+     * @throws IOException if the store cannot be opened
+     */
+    public static ImageStore open(Path directory) throws IOException {
+        return open(directory, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens the store in the given directory with the given capacity, creating it if needed.
+     *
+     * @param directory the directory holding the store files
+     * @param capacity  the maximum number of bytes of the segment
+     * @return the opened {@code ImageStore}
+     * @throws IOException if the store cannot be opened
+     * @throws IllegalArgumentException if the capacity is not positive or cannot be memory-mapped
+     */
+    public static ImageStore open(Path directory, long capacity) throws IOException {
+        if (capacity <= 0 || capacity > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Invalid store capacity: " + capacity);
+        ImageStore store = new ImageStore(directory, capacity);
+        store.load();
+        return store;
+    }
+
+    /**
+     * Returns the default directory of the store, inside the user's home directory.
+     *
+     * @return the default store directory
+     */
+    public static Path defaultDirectory() {
+        return Path.of(System.getProperty("user.home"), ".imageviewer", "store");
+    }
+
+    /**
+     * Stores the given image bytes, unless an image with the same content is already stored.
+     *
+     * @param content the compressed image bytes
+     * @return the content hash that addresses the image
+     * @throws IOException if the image cannot be written
+     */
+    public synchronized String put(byte[] content) throws IOException {
+        String hash = hashOf(content);
+        if (entries.containsKey(hash)) return hash;
+        segment.write(ByteBuffer.wrap(content), length);
+        append(hash, new Entry(length, content.length));
+        length += content.length;
+        if (length > capacity) evict();
+        return hash;
+    }
+
+    /**
+     * Returns a read-only view of the stored image with the given hash.
+     *
+     * @param hash the content hash of the image
+     * @return a read-only {@link ByteBuffer} over the image bytes, or {@code null} if the image is not stored
+     * @throws IOException if the segment cannot be mapped
+     */
+    public synchronized ByteBuffer get(String hash) throws IOException {
+        Entry entry = entries.get(hash);
+        if (entry == null) return null;
+        if (mapped == null || mapped.capacity() < entry.offset() + entry.length()) remap();
+        return mapped.slice((int) entry.offset(), entry.length()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Checks whether an image with the given hash is stored.
+     *
+     * @param hash the content hash of the image
+     * @return {@code true} if the image is stored
+     */
+    public synchronized boolean contains(String hash) {
+        return entries.containsKey(hash);
+    }
+
+    /**
+     * Returns the hashes of the stored images, from the oldest to the most recent.
+     *
+     * @return the list of content hashes
+     */
+    public synchronized List<String> hashes() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    /**
+     * Returns the number of stored images.
+     *
+     * @return the number of images
+     */
+    public synchronized int count() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of bytes of the segment.
+     *
+     * @return the size of the segment in bytes
+     */
+    public synchronized long size() {
+        return length;
+    }
+
+    /**
+     * Closes the files of the store.
+     *
+     * @throws IOException if the files cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        index.close();
+        segment.close();
+        mapped = null;
+    }
+
+    /**
+     * Computes the SHA-256 hash of the given bytes as a lowercase hexadecimal string.
+     *
+     * @param content the bytes to hash
+     * @return the content hash
+     */
+    public static String hashOf(byte[] content) {
+        return HexFormat.of().formatHex(digest().digest(content));
+    }
+
+    // Private helper methods for loading, appending and compacting the store files
+
+    private void load() throws IOException {
+        Files.createDirectories(directory);
+        recover();
+        segment = FileChannel.open(directory.resolve(SEGMENT), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        readIndex(segment.size());
+        writeIndex(directory.resolve(INDEX));
+        segment.truncate(length);
+        index = openIndex();
+    }
+
+    private void recover() throws IOException {
+        Path staged = directory.resolve(INDEX + COMPACTED);
+        Path compacted = directory.resolve(SEGMENT + COMPACTED);
+        if (!Files.exists(staged)) {
+            Files.deleteIfExists(compacted);
+            return;
+        }
+        if (Files.exists(compacted)) Files.move(compacted, directory.resolve(SEGMENT), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(staged, directory.resolve(INDEX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void readIndex(long segmentSize) throws IOException {
+        Path path = directory.resolve(INDEX);
+        if (!Files.exists(path)) return;
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(path))) {
+            while (true) {
+                byte[] hash = input.readNBytes(HASH_LENGTH);
+                if (hash.length < HASH_LENGTH) break;
+                Entry entry = new Entry(input.readLong(), input.readInt());
+                if (entry.offset() + entry.length() > segmentSize) break;
+                entries.put(HexFormat.of().formatHex(hash), entry);
+                length = Math.max(length, entry.offset() + entry.length());
+            }
+        } catch (EOFException ignored) {
+        }
+    }
+
+    private void append(String hash, Entry entry) throws IOException {
+        writeEntry(index, hash, entry);
+        index.flush();
+        entries.put(hash, entry);
+    }
+
+    private void evict() throws IOException {
+        long live = length;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (live > capacity * 3 / 4 && entries.size() > 1) {
+            live -= iterator.next().length();
+            iterator.remove();
+        }
+        compact();
+    }
+
+    private void compact() throws IOException {
+        Path compacted = directory.resolve(SEGMENT + COMPACTED);
+        Map<String, Entry> moved = new LinkedHashMap<>();
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long offset = 0;
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                segment.transferTo(entry.getValue().offset(), entry.getValue().length(), target);
+                moved.put(entry.getKey(), new Entry(offset, entry.getValue().length()));
+                offset += entry.getValue().length();
+            }
+            target.force(true);
+            length = offset;
+        }
+        entries.clear();
+        entries.putAll(moved);
+        close();
+        writeIndex(directory.resolve(INDEX + COMPACTED));
+        recover();
+        segment = FileChannel.open(directory.resolve(SEGMENT), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = openIndex();
+    }
+
+    private void writeIndex(Path path) throws IOException {
+        Path temporary = path.resolveSibling(INDEX + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(temporary))) {
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) writeEntry(output, entry.getKey(), entry.getValue());
+        }
+        try (FileChannel written = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            written.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private DataOutputStream openIndex() throws IOException {
+        return new DataOutputStream(Files.newOutputStream(directory.resolve(INDEX), StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    private void remap() throws IOException {
+        mapped = segment.map(FileChannel.MapMode.READ_ONLY, 0, length);
+    }
+
+    private static void writeEntry(DataOutputStream output, String hash, Entry entry) throws IOException {
+        output.write(HexFormat.of().parseHex(hash));
+        output.writeLong(entry.offset());
+        output.writeInt(entry.length());
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(long offset, int length) {
+    }
+}
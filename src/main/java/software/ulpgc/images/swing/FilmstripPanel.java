@@ -0,0 +1,177 @@
+package software.ulpgc.images.swing;
+
+import software.ulpgc.images.architecture.control.OnSelectListener;
+import software.ulpgc.images.architecture.io.ImageLoader;
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.thumbnail.ThumbnailGenerator;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A horizontal strip of the thumbnails of the images of an {@link ImageLoader}, meant to be placed in
+ * a {@link JScrollPane}. Clicking a thumbnail selects its position, so the viewer can jump straight to
+ * that image without decoding the images in between.
+ * <p>
+ * The strip is virtualized: it is as wide as all of its cells, but each paint only visits the cells
+ * within the clip. Only the thumbnails of the visible cells, and of a few cells on either side of them,
+ * are requested from a {@link ThumbnailGenerator}, so a large collection is never decoded as a whole.
+ * Cells whose thumbnail is not ready are drawn empty and repainted once it is. The strip follows
+ * loaders whose number of images grows.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class FilmstripPanel extends JComponent {
+    private static final int PADDING = 4;
+    private static final int NEARBY_CELLS = 8;
+    private static final int REFRESH_PERIOD = 500;
+    private static final Color BACKGROUND = new Color(0x1E1E1E);
+    private static final Color EMPTY = new Color(0x3C3C3C);
+    private static final Color SELECTION = new Color(0x4A88C7);
+
+    private final ThumbnailGenerator generator;
+    private final Timer refresh = new Timer(REFRESH_PERIOD, _ -> refreshCount());
+    private ImageLoader loader;
+    private int count;
+    private String currentId = "";
+    private OnSelectListener selectListener = OnSelectListener.None;
+    private int paintedCells;
+
+    /**
+     * Constructs a new {@code FilmstripPanel} that shows the thumbnails of the given generator.
+     *
+     * @param generator the {@link ThumbnailGenerator} of the thumbnails
+     */
+    public FilmstripPanel(ThumbnailGenerator generator) {
+        this.generator = generator;
+        setOpaque(true);
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent event) {
+                int index = event.getX() / cellWidth();
+                if (index < count) selectListener.selected(index);
+            }
+        });
+    }
+
+    /**
+     * Shows the thumbnails of the images of the given loader. Loaders that do not know their number
+     * of images show an empty strip.
+     *
+     * @param loader the {@link ImageLoader} whose images are shown
+     */
+    public void show(ImageLoader loader) {
+        this.loader = loader;
+        this.count = 0;
+        refreshCount();
+        refresh.start();
+    }
+
+    /**
+     * Highlights the cell of the picture with the given identifier.
+     *
+     * @param id the identifier of the displayed picture
+     */
+    public void setCurrent(String id) {
+        currentId = id;
+        repaint();
+    }
+
+    /**
+     * Sets the listener invoked when a thumbnail is clicked.
+     *
+     * @param listener the {@link OnSelectListener} invoked with the position of the clicked thumbnail
+     */
+    public void setSelectListener(OnSelectListener listener) {
+        selectListener = listener;
+    }
+
+    /**
+     * Returns the number of cells visited by the latest paint.
+     *
+     * @return the number of painted cells
+     */
+    public int paintedCells() {
+        return paintedCells;
+    }
+
+    /**
+     * Returns the size of all the cells of the strip.
+     *
+     * @return the preferred size of the strip
+     */
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(Math.max(1, count) * cellWidth(), generator.height() + 2 * PADDING);
+    }
+
+    /**
+     * Paints the cells within the clip, and requests the thumbnails missing from the visible cells and
+     * the cells near them.
+     *
+     * @param g the {@link Graphics} object used to paint the strip
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        g.setColor(BACKGROUND);
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        if (loader == null || count == 0) return;
+        int first = clip.x / cellWidth();
+        int last = Math.min(count - 1, (clip.x + clip.width) / cellWidth());
+        for (int i = first; i <= last; i++) {
+            Picture picture = loader.load(i);
+            paintCell(g, i, picture, generator.peek(picture));
+        }
+        paintedCells = last - first + 1;
+        requestNearby();
+    }
+
+    // Private helper methods for laying out and painting cells
+
+    private void paintCell(Graphics g, int index, Picture picture, BufferedImage thumbnail) {
+        int x = index * cellWidth() + PADDING;
+        if (picture.id().equals(currentId)) {
+            g.setColor(SELECTION);
+            g.fillRect(x - PADDING / 2, PADDING / 2, generator.width() + PADDING, generator.height() + PADDING);
+        }
+        if (thumbnail == null) {
+            g.setColor(EMPTY);
+            g.fillRect(x, PADDING, generator.width(), generator.height());
+            return;
+        }
+        g.drawImage(thumbnail, x + (generator.width() - thumbnail.getWidth()) / 2, PADDING + (generator.height() - thumbnail.getHeight()) / 2, null);
+    }
+
+    private void requestNearby() {
+        Rectangle visible = getVisibleRect();
+        int first = Math.max(0, visible.x / cellWidth() - NEARBY_CELLS);
+        int last = Math.min(count - 1, (visible.x + visible.width) / cellWidth() + NEARBY_CELLS);
+        List<Picture> missing = new ArrayList<>();
+        for (int i = first; i <= last; i++) {
+            Picture picture = loader.load(i);
+            if (generator.peek(picture) == null && !generator.isUnavailable(picture)) missing.add(picture);
+        }
+        if (!missing.isEmpty()) generator.generate(missing, this::repaint);
+    }
+
+    private void refreshCount() {
+        int available = loader.count();
+        if (available <= count) return;
+        count = available;
+        revalidate();
+        repaint();
+    }
+
+    private int cellWidth() {
+        return generator.width() + 2 * PADDING;
+    }
+}
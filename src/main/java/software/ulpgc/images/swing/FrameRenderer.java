@@ -0,0 +1,167 @@
+package software.ulpgc.images.swing;
+
+import software.ulpgc.images.metrics.Metrics;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Composes the frames of a display on a background thread into a pair of offscreen buffers.
+ * <p>
+ * A frame is drawn into the back buffer, then swapped with the front buffer and handed to the event
+ * dispatch thread, whose paint only has to {@link #blit(Graphics) blit} the front buffer. Decoding and
+ * scaling therefore never run on the event dispatch thread. Requests made while a frame is being
+ * composed are coalesced, so only the most recent one is rendered next. The buffers are created
+ * compatible with the display, so the blit needs no format conversion. The time spent composing
+ * each frame is recorded as the {@code compose} latency of the {@link Metrics}.
+ * </p>
+ * <p>
+ * A painter that fails is logged and counted as a decode failure in the metrics, and its half-painted
+ * frame is discarded, so the display keeps showing the previous frame.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class FrameRenderer implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(FrameRenderer.class.getName());
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(FrameRenderer::daemonThread);
+    private final AtomicReference<Request> next = new AtomicReference<>();
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final Object swap = new Object();
+    private BufferedImage front;
+    private BufferedImage back;
+    private String frameId = "";
+
+    /**
+     * Composes a new frame in the background with the given painter, replacing any request that has
+     * not started yet. The callback is invoked on the event dispatch thread once the frame is ready.
+     *
+     * @param id            the identity of the picture drawn in the frame
+     * @param width         the width of the frame
+     * @param height        the height of the frame
+     * @param configuration the {@link GraphicsConfiguration} of the display, or {@code null} if headless
+     * @param painter       the painter that draws the content of the frame
+     * @param onFrame       the callback invoked when the frame is ready
+     */
+    public void render(String id, int width, int height, GraphicsConfiguration configuration, Consumer<Graphics2D> painter, Runnable onFrame) {
+        if (width <= 0 || height <= 0) return;
+        if (next.getAndSet(new Request(id, width, height, configuration, painter, onFrame)) == null)
+            executor.execute(this::renderNext);
+    }
+
+    /**
+     * Draws the latest completed frame at the origin of the given graphics.
+     *
+     * @param g the {@link Graphics} object the frame is drawn to
+     * @return the size of the frame drawn, or an empty {@link Dimension} if no frame is ready
+     */
+    public Dimension blit(Graphics g) {
+        synchronized (swap) {
+            if (front == null) return new Dimension();
+            g.drawImage(front, 0, 0, null);
+            return new Dimension(front.getWidth(), front.getHeight());
+        }
+    }
+
+    /**
+     * Returns the identity of the picture drawn in the latest completed frame.
+     *
+     * @return the identity of the picture, or an empty string if no frame is ready
+     */
+    public String frameId() {
+        synchronized (swap) {
+            return frameId;
+        }
+    }
+
+    /**
+     * Returns the number of frames completed so far.
+     *
+     * @return the number of frames
+     */
+    public long frameCount() {
+        return frames.get();
+    }
+
+    /**
+     * Returns the number of frames discarded because their painter failed.
+     *
+     * @return the number of failed frames
+     */
+    public long failedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // Private helper methods for composing frames
+
+    private void renderNext() {
+        Request request = next.getAndSet(null);
+        if (request == null) return;
+        long start = System.nanoTime();
+        BufferedImage frame = bufferFor(request);
+        Graphics2D graphics = frame.createGraphics();
+        try {
+            graphics.setColor(Color.BLACK);
+            graphics.fillRect(0, 0, request.width(), request.height());
+            request.painter().accept(graphics);
+        } catch (RuntimeException e) {
+            fail(request, frame, e);
+            return;
+        } finally {
+            graphics.dispose();
+        }
+        Metrics.global().latency("compose").recordSince(start);
+        synchronized (swap) {
+            back = front;
+            front = frame;
+            frameId = request.id();
+        }
+        frames.incrementAndGet();
+        SwingUtilities.invokeLater(request.onFrame());
+    }
+
+    private void fail(Request request, BufferedImage frame, RuntimeException error) {
+        failed.incrementAndGet();
+        Metrics.global().recordDecodeFailure();
+        LOGGER.log(System.Logger.Level.WARNING, "Could not compose the frame of " + request.id(), error);
+        synchronized (swap) {
+            if (back == null) back = frame;
+        }
+    }
+
+    private BufferedImage bufferFor(Request request) {
+        BufferedImage buffer;
+        synchronized (swap) {
+            buffer = back;
+            back = null;
+        }
+        if (buffer != null && buffer.getWidth() == request.width() && buffer.getHeight() == request.height()) return buffer;
+        return RenditionCache.compatibleImage(request.configuration(), request.width(), request.height());
+    }
+
+    private static Thread daemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "frame-renderer");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record Request(String id, int width, int height, GraphicsConfiguration configuration, Consumer<Graphics2D> painter, Runnable onFrame) {
+    }
+}
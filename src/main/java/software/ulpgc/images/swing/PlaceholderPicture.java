@@ -0,0 +1,123 @@
+package software.ulpgc.images.swing;
+
+import software.ulpgc.images.architecture.model.Picture;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * A {@link Picture} shown while the first real picture is not available yet, such as during startup
+ * while the first image is downloaded. It draws a message centred on a plain background, at exactly
+ * the size it is displayed at, so it is cheap to produce and blitted without scaling.
+ * <p>
+ * A {@link SwingImageDisplay} does not count a placeholder as a picture: painting it records neither
+ * the {@code firstPixel} latency nor the first image of the startup timeline.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class PlaceholderPicture implements Picture {
+    private static final int DEFAULT_WIDTH = 1000;
+    private static final int DEFAULT_HEIGHT = 800;
+    private static final Color BACKGROUND = new Color(0x2B2B2B);
+    private static final Color FOREGROUND = new Color(0xBBBBBB);
+
+    private final String message;
+    private BufferedImage image;
+
+    /**
+     * Constructs a new {@code PlaceholderPicture} showing the given message.
+     *
+     * @param message the message to show, such as {@code "Loading images…"}
+     */
+    public PlaceholderPicture(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Returns the identifier of the placeholder, which depends on its message only.
+     *
+     * @return the identifier of the placeholder
+     */
+    @Override
+    public String id() {
+        return "placeholder:" + message;
+    }
+
+    /**
+     * Returns the placeholder drawn at its default size.
+     *
+     * @return the image of the placeholder
+     */
+    @Override
+    public Image content() {
+        return content(DEFAULT_WIDTH, DEFAULT_HEIGHT);
+    }
+
+    /**
+     * Returns the placeholder drawn at the given size. The last drawn image is reused while the size
+     * does not change.
+     *
+     * @param width  the width the placeholder is displayed at
+     * @param height the height the placeholder is displayed at
+     * @return the image of the placeholder
+     */
+    @Override
+    public synchronized Image content(int width, int height) {
+        int w = Math.max(1, width);
+        int h = Math.max(1, height);
+        if (image == null || image.getWidth() != w || image.getHeight() != h) image = draw(w, h);
+        return image;
+    }
+
+    /**
+     * Returns the dimensions of the placeholder at its default size.
+     *
+     * @return the default dimensions of the placeholder
+     */
+    @Override
+    public Dimension dimensions() {
+        return new Dimension(DEFAULT_WIDTH, DEFAULT_HEIGHT);
+    }
+
+    /**
+     * Returns {@link Picture#None}, as a placeholder is not part of a sequence.
+     *
+     * @return {@link Picture#None}
+     */
+    @Override
+    public Picture next() {
+        return Picture.None;
+    }
+
+    /**
+     * Returns {@link Picture#None}, as a placeholder is not part of a sequence.
+     *
+     * @return {@link Picture#None}
+     */
+    @Override
+    public Picture previous() {
+        return Picture.None;
+    }
+
+    // Private helper methods for drawing the placeholder
+
+    private BufferedImage draw(int width, int height) {
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setColor(BACKGROUND);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, Math.max(12, Math.min(width, height) / 30)));
+            graphics.setColor(FOREGROUND);
+            FontMetrics metrics = graphics.getFontMetrics();
+            graphics.drawString(message, (width - metrics.stringWidth(message)) / 2, (height - metrics.getHeight()) / 2 + metrics.getAscent());
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,173 @@
+package software.ulpgc.images.swing;
+
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.metrics.Metrics;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decodes the picture shown by a display in two passes on a background thread: a low-resolution
+ * {@link Picture#preview(int, int) preview} first, when the picture has one, then the full-quality
+ * {@link Picture#content(int, int) content}.
+ * <p>
+ * Each pass is published as soon as it is decoded, so the display can show something within a few
+ * milliseconds of a navigation and swap in the full-quality image when it is ready. A picture that is
+ * already shown at full quality is not previewed again when it is decoded for a new size.
+ * </p>
+ * <p>
+ * Every request for a new picture or size starts a new generation. Only the latest generation is
+ * served: the decode of a superseded generation is cancelled by interrupting it, or discarded if it
+ * cannot be interrupted, and its passes are never published. A burst of navigations therefore only
+ * decodes its final target at full quality, and the latency of that target does not depend on how
+ * many navigations preceded it.
+ * </p>
+ * <p>
+ * A picture that cannot be decoded is logged and counted in the metrics, and a failed pass is
+ * published in its place, holding an error message drawn at the display size, so the display does not
+ * keep showing the previous picture.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class ProgressiveDecoder implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(ProgressiveDecoder.class.getName());
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(ProgressiveDecoder::daemonThread);
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile Pass current;
+    private Request latest;
+
+    /**
+     * Returns the most recently published pass.
+     *
+     * @return the current {@link Pass}, or {@code null} if nothing has been decoded yet
+     */
+    public Pass current() {
+        return current;
+    }
+
+    /**
+     * Decodes the given picture for the given display size in the background, unless it is already the
+     * most recent request. A new request supersedes the previous one and cancels its decode. The
+     * callback is invoked on the event dispatch thread after each pass.
+     *
+     * @param picture  the picture to decode
+     * @param width    the width the picture is displayed at
+     * @param height   the height the picture is displayed at
+     * @param onUpdate the callback invoked when a pass is published
+     * @return the generation of the request
+     */
+    public synchronized long request(Picture picture, int width, int height, Runnable onUpdate) {
+        String key = picture.id() + "@" + width + "x" + height;
+        if (latest != null && latest.key().equals(key)) return latest.generation();
+        if (latest != null && latest.task().cancel(true)) cancelled.incrementAndGet();
+        long next = generation.incrementAndGet();
+        latest = new Request(key, next, executor.submit(() -> decode(next, picture, width, height, onUpdate)));
+        return next;
+    }
+
+    /**
+     * Returns the generation of the latest request.
+     *
+     * @return the latest generation, or {@code 0} if nothing has been requested yet
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Returns the number of decodes cancelled because a newer request superseded them.
+     *
+     * @return the number of cancelled decodes
+     */
+    public long cancelledCount() {
+        return cancelled.get();
+    }
+
+    /**
+     * Returns the number of pictures that could not be decoded.
+     *
+     * @return the number of failed decodes
+     */
+    public long failedCount() {
+        return failed.get();
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // Private helper methods for decoding passes
+
+    private void decode(long generation, Picture picture, int width, int height, Runnable onUpdate) {
+        try {
+            if (isStale(generation)) return;
+            Image preview = isComplete(picture.id()) ? null : picture.preview(width, height);
+            if (preview != null) publish(generation, new Pass(picture.id(), preview, picture.dimensions(), false, false), onUpdate);
+            if (isStale(generation)) return;
+            Image content = picture.content(width, height);
+            if (content == null) fail(generation, picture, width, height, null, onUpdate);
+            else publish(generation, new Pass(picture.id(), content, new Dimension(content.getWidth(null), content.getHeight(null)), true, false), onUpdate);
+        } catch (RuntimeException e) {
+            fail(generation, picture, width, height, e, onUpdate);
+        }
+    }
+
+    private void fail(long generation, Picture picture, int width, int height, RuntimeException error, Runnable onUpdate) {
+        if (isStale(generation)) return;
+        failed.incrementAndGet();
+        Metrics.global().recordDecodeFailure();
+        LOGGER.log(System.Logger.Level.WARNING, "Could not decode " + picture.id(), error);
+        Image message = new PlaceholderPicture("Could not decode the image").content(width, height);
+        publish(generation, new Pass(picture.id(), message, new Dimension(width, height), true, true), onUpdate);
+    }
+
+    private boolean isStale(long generation) {
+        return generation != this.generation.get() || Thread.currentThread().isInterrupted();
+    }
+
+    private boolean isComplete(String id) {
+        Pass pass = current;
+        return pass != null && pass.complete() && pass.id().equals(id);
+    }
+
+    private void publish(long generation, Pass pass, Runnable onUpdate) {
+        if (isStale(generation)) return;
+        current = pass;
+        SwingUtilities.invokeLater(onUpdate);
+    }
+
+    private static Thread daemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "progressive-decoder");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record Request(String key, long generation, Future<?> task) {
+    }
+
+    /**
+     * A decoded pass of a picture.
+     *
+     * @param id         the identity of the picture
+     * @param image      the decoded image
+     * @param dimensions the dimensions the image is laid out as, which are those of the picture for a preview
+     * @param complete   whether the image is the full-quality pass
+     * @param failed     whether the picture could not be decoded, in which case the image is an error
+     *                   message drawn at the display size
+     */
+    public record Pass(String id, Image image, Dimension dimensions, boolean complete, boolean failed) {
+    }
+}
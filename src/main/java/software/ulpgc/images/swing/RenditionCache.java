@@ -0,0 +1,226 @@
+package software.ulpgc.images.swing;
+
+import software.ulpgc.images.architecture.model.ViewPort;
+import software.ulpgc.images.cache.CacheStats;
+import software.ulpgc.images.cache.DecodedImageCache;
+import software.ulpgc.images.cache.MemoryTier;
+import software.ulpgc.images.resample.Resampler;
+import software.ulpgc.images.resample.ResamplingFilter;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A cache of pre-scaled, display-compatible renditions of pictures, keyed by picture identity and
+ * {@link ViewPort} size.
+ * <p>
+ * Renditions are built on a single background thread with a Lanczos {@link Resampler}. When several
+ * renditions are requested while one is being built, only the most recent request is served, so
+ * dragging a window border does not queue up a rendition for every intermediate size. A rendition
+ * that fails to build is logged, and the display keeps its fast scale of the picture.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class RenditionCache implements AutoCloseable {
+    /**
+     * The default memory budget of the renditions, 64 MiB of raster data.
+     */
+    public static final long DEFAULT_BUDGET = 64L * 1024 * 1024;
+    private static final Resampler RESAMPLER = new Resampler(ResamplingFilter.LANCZOS3);
+    private static final System.Logger LOGGER = System.getLogger(RenditionCache.class.getName());
+
+    private final DecodedImageCache renditions;
+    private final MemoryTier tier;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(RenditionCache::daemonThread);
+    private final AtomicReference<String> latest = new AtomicReference<>();
+
+    /**
+     * Constructs a new {@code RenditionCache} with the {@link #DEFAULT_BUDGET}.
+     */
+    public RenditionCache() {
+        this(DEFAULT_BUDGET);
+    }
+
+    /**
+     * Constructs a new {@code RenditionCache} with the specified memory budget.
+     *
+     * @param budget the maximum number of raster bytes held by the renditions
+     */
+    public RenditionCache(long budget) {
+        this.renditions = new DecodedImageCache(budget);
+        this.tier = MemoryTier.of(renditions);
+    }
+
+    /**
+     * Returns the rendition of the given picture at the size of the given {@link ViewPort}.
+     *
+     * @param id       the identity of the picture
+     * @param viewPort the viewport the rendition is drawn into
+     * @return the rendition, or {@code null} if it has not been built
+     */
+    public Image get(String id, ViewPort viewPort) {
+        return renditions.lookup(keyOf(id, viewPort));
+    }
+
+    /**
+     * Returns the rendition of the given picture at the size of the given {@link ViewPort} without
+     * counting the lookup as a hit or a miss.
+     *
+     * @param id       the identity of the picture
+     * @param viewPort the viewport the rendition is drawn into
+     * @return the rendition, or {@code null} if it has not been built
+     */
+    public Image peek(String id, ViewPort viewPort) {
+        return renditions.peek(keyOf(id, viewPort));
+    }
+
+    /**
+     * Builds the rendition of the given picture on the calling thread, unless it is already built, so
+     * that the picture is drawn at full quality from its first frame.
+     *
+     * @param id            the identity of the picture
+     * @param source        the full image of the picture
+     * @param viewPort      the viewport the rendition is drawn into
+     * @param configuration the {@link GraphicsConfiguration} of the display, or {@code null} if headless
+     * @return the rendition
+     * @throws IOException if the thread is interrupted while another thread builds the same rendition
+     */
+    public Image prepare(String id, Image source, ViewPort viewPort, GraphicsConfiguration configuration) throws IOException {
+        return renditions.get(keyOf(id, viewPort), () -> scale(source, viewPort, configuration));
+    }
+
+    /**
+     * Builds the rendition of the given picture in the background, replacing any request that has
+     * not started yet. The callback is invoked on the event dispatch thread once the rendition is ready.
+     *
+     * @param id            the identity of the picture
+     * @param source        the full image of the picture
+     * @param viewPort      the viewport the rendition is drawn into
+     * @param configuration the {@link GraphicsConfiguration} of the display, or {@code null} if headless
+     * @param onReady       the callback invoked when the rendition is ready
+     */
+    public void request(String id, Image source, ViewPort viewPort, GraphicsConfiguration configuration, Runnable onReady) {
+        String key = keyOf(id, viewPort);
+        if (key.equals(latest.getAndSet(key))) return;
+        executor.execute(() -> build(key, source, viewPort, configuration, onReady));
+    }
+
+    /**
+     * Removes every rendition.
+     */
+    public void clear() {
+        renditions.clear();
+    }
+
+    /**
+     * Returns a snapshot of the rendition cache statistics.
+     *
+     * @return the current {@link CacheStats}
+     */
+    public CacheStats stats() {
+        return renditions.stats();
+    }
+
+    /**
+     * Returns the memory tier of the renditions, to be shed under memory pressure.
+     *
+     * @return the {@link MemoryTier} of this cache
+     */
+    public MemoryTier tier() {
+        return tier;
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Creates an image compatible with the given {@link GraphicsConfiguration}, falling back to a
+     * packed RGB image when no configuration is available.
+     *
+     * @param configuration the graphics configuration of the display, or {@code null}
+     * @param width         the width of the image
+     * @param height        the height of the image
+     * @return a new {@link BufferedImage}
+     */
+    public static BufferedImage compatibleImage(GraphicsConfiguration configuration, int width, int height) {
+        return configuration != null ?
+                configuration.createCompatibleImage(width, height) :
+                new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Scales the given image to the size of the given viewport with high-quality interpolation. Images
+     * backed by a raster are resampled with a Lanczos filter; other images are reduced by successive
+     * halvings first, so that no source pixel is skipped, and drawn with bicubic interpolation.
+     *
+     * @param source        the image to scale
+     * @param viewPort      the viewport whose size the image is scaled to
+     * @param configuration the graphics configuration of the display, or {@code null}
+     * @return a new {@link BufferedImage} of the size of the viewport
+     */
+    public static BufferedImage scale(Image source, ViewPort viewPort, GraphicsConfiguration configuration) {
+        BufferedImage rendition = compatibleImage(configuration, Math.max(1, viewPort.width()), Math.max(1, viewPort.height()));
+        if (source instanceof BufferedImage image) return RESAMPLER.resample(image, viewPort, rendition);
+        Graphics2D graphics = rendition.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(halve(source, viewPort), 0, 0, rendition.getWidth(), rendition.getHeight(), null);
+        } finally {
+            graphics.dispose();
+        }
+        return rendition;
+    }
+
+    // Private helper methods for building renditions
+
+    private void build(String key, Image source, ViewPort viewPort, GraphicsConfiguration configuration, Runnable onReady) {
+        if (!key.equals(latest.get())) return;
+        try {
+            renditions.put(key, scale(source, viewPort, configuration));
+            SwingUtilities.invokeLater(onReady);
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Could not build the rendition " + key, e);
+        } finally {
+            latest.compareAndSet(key, null);
+        }
+    }
+
+    private static Image halve(Image source, ViewPort viewPort) {
+        Image image = source;
+        int width = source.getWidth(null);
+        int height = source.getHeight(null);
+        while (width / 2 >= viewPort.width() && height / 2 >= viewPort.height()) {
+            BufferedImage half = new BufferedImage(width /= 2, height /= 2, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = half.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+            graphics.dispose();
+            image = half;
+        }
+        return image;
+    }
+
+    private static String keyOf(String id, ViewPort viewPort) {
+        return id + "@" + viewPort.width() + "x" + viewPort.height();
+    }
+
+    private static Thread daemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "rendition-builder");
+        thread.setDaemon(true);
+        return thread;
+    }
+}
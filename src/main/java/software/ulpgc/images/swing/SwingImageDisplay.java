@@ -1,26 +1,139 @@
 package software.ulpgc.images.swing;
 
 import software.ulpgc.images.architecture.control.OnClickListener;
+import software.ulpgc.images.architecture.control.OnPaintListener;
 import software.ulpgc.images.architecture.model.Picture;
 import software.ulpgc.images.architecture.model.ViewPort;
 import software.ulpgc.images.architecture.view.ImageDisplay;
+import software.ulpgc.images.metrics.Metrics;
+import software.ulpgc.images.metrics.StartupTimeline;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.io.IOException;
+import java.time.Duration;
 
 /**
  * A JPanel that displays an image and allows navigation between images using previous and next buttons.
  * Implements the {@link ImageDisplay} interface to provide a custom image display with basic navigation functionality.
- * The class supports listeners for the previous and next image buttons.
+ * The class supports listeners for the previous and next image buttons and the slideshow button.
+ * <p>
+ * Images are drawn from pre-scaled renditions kept in a {@link RenditionCache}, so repaints at an
+ * unchanged size are a 1:1 blit. While a rendition for a new size is being built, the image is drawn
+ * with a fast, low-quality scale.
+ * </p>
+ * <p>
+ * Pictures are decoded off the event dispatch thread by a {@link ProgressiveDecoder}: a low-resolution
+ * preview is shown first and replaced by the full-quality image once it is decoded. The time from
+ * {@link #show(Picture)} to the first drawn pixel is recorded in the {@code firstPixel} latency metric,
+ * and the first picture painted, other than a {@link PlaceholderPicture}, completes the
+ * {@link StartupTimeline}.
+ * </p>
+ * <p>
+ * Frames are composed on a background thread by a {@link FrameRenderer}, so painting only blits the
+ * latest completed frame and the event dispatch thread stays responsive while pictures are decoded
+ * and scaled. Paints longer than {@link #PAINT_BUDGET} are counted as slow paints in the metrics.
+ * </p>
+ * <p>
+ * The mouse wheel zooms in around the cursor, dragging pans the zoomed image and a double click
+ * returns to fit-to-window. While zoomed, the image is drawn from tiles decoded by a
+ * {@link TileRenderer}, over a display-sized preview that fills in the tiles still being decoded.
+ * </p>
  *
  * @author      Vít Mikula
  * @version     1.0, 10/01/2025
  * @since       1.0
  */
 public class SwingImageDisplay extends JPanel implements ImageDisplay {
-    private Picture currentImage;
+    /**
+     * The time a paint is expected to take at most, 4 milliseconds.
+     */
+    public static final Duration PAINT_BUDGET = Duration.ofMillis(4);
+    private static final double ZOOM_STEP = 1.25;
+    private static final double MAXIMUM_SCALE = 8;
+    private final RenditionCache renditions;
+    private final TileRenderer tiles;
+    private final ProgressiveDecoder decoder = new ProgressiveDecoder();
+    private final FrameRenderer frames = new FrameRenderer();
+    private Picture currentImage = Picture.None;
+    private long shownAt;
+    private boolean firstPixelPending;
+    private boolean paintPending;
+    private ViewPort zoom;
+    private Dimension zoomedSize;
+    private Point dragStart;
     private OnClickListener previousImageListener = OnClickListener.None;
     private OnClickListener nextImageListener = OnClickListener.None;
+    private OnClickListener slideshowListener = OnClickListener.None;
+    private OnPaintListener paintListener = OnPaintListener.None;
+
+    /**
+     * Constructs a new {@code SwingImageDisplay} with a default {@link RenditionCache}.
+     */
+    public SwingImageDisplay() {
+        this(new RenditionCache());
+    }
+
+    /**
+     * Constructs a new {@code SwingImageDisplay} that draws from the given {@link RenditionCache}.
+     *
+     * @param renditions the cache of pre-scaled renditions
+     */
+    public SwingImageDisplay(RenditionCache renditions) {
+        this(renditions, new TileRenderer());
+    }
+
+    /**
+     * Constructs a new {@code SwingImageDisplay} that draws from the given {@link RenditionCache}
+     * and renders zoomed images with the given {@link TileRenderer}.
+     *
+     * @param renditions the cache of pre-scaled renditions
+     * @param tiles      the renderer of zoomed images
+     */
+    public SwingImageDisplay(RenditionCache renditions, TileRenderer tiles) {
+        this.renditions = renditions;
+        this.tiles = tiles;
+        installZoomControls();
+    }
+
+    /**
+     * Returns the renderer of zoomed images used by this display.
+     *
+     * @return the {@link TileRenderer} of this display
+     */
+    public TileRenderer tiles() {
+        return tiles;
+    }
+
+    /**
+     * Returns the decoder of the passes drawn by this display.
+     *
+     * @return the {@link ProgressiveDecoder} of this display
+     */
+    public ProgressiveDecoder decoder() {
+        return decoder;
+    }
+
+    /**
+     * Returns the renderer of the frames blitted by this display.
+     *
+     * @return the {@link FrameRenderer} of this display
+     */
+    public FrameRenderer frames() {
+        return frames;
+    }
+
+    /**
+     * Returns the cache of pre-scaled renditions used by this display.
+     *
+     * @return the {@link RenditionCache} of this display
+     */
+    public RenditionCache renditions() {
+        return renditions;
+    }
 
     /**
      * Displays the given picture on the panel.
@@ -30,7 +143,54 @@ public class SwingImageDisplay extends JPanel implements ImageDisplay {
     @Override
     public void show(Picture picture) {
         currentImage = picture;
-        repaint();
+        zoom = null;
+        shownAt = System.nanoTime();
+        firstPixelPending = picture != Picture.None && !(picture instanceof PlaceholderPicture);
+        paintPending = firstPixelPending;
+        render();
+    }
+
+    /**
+     * Prepares the given picture to be shown at the current size of the panel: it is decoded, and its
+     * high-quality rendition is built, on the calling thread. A prepared picture is drawn at full
+     * quality from its first frame, without the fast scale that precedes a rendition built on demand.
+     *
+     * @param picture the {@link Picture} to be prepared
+     * @throws IOException if the thread is interrupted while the rendition is built by another thread
+     */
+    public void prepare(Picture picture) throws IOException {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            picture.content();
+            return;
+        }
+        Image image = picture.content(width, height);
+        if (image != null) renditions.prepare(picture.id(), image, adaptViewportTo(image, width, height), getGraphicsConfiguration());
+    }
+
+    /**
+     * Sets the listener notified when a shown picture is painted for the first time.
+     *
+     * @param listener the {@link OnPaintListener} to be called at the first paint of each picture
+     */
+    public void setPaintListener(OnPaintListener listener) {
+        paintListener = listener;
+    }
+
+    /**
+     * Composes a new frame of the current picture in the background. The picture is decoded first if
+     * needed, and the display is repainted once the frame is ready.
+     */
+    public void render() {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) return;
+        Picture picture = currentImage;
+        if (picture != Picture.None) decoder.request(picture, width, height, this::render);
+        ProgressiveDecoder.Pass pass = picture == Picture.None ? null : decoder.current();
+        Scene scene = new Scene(picture, pass, zoom, zoomedSize, width, height, getGraphicsConfiguration());
+        frames.render(pass == null ? "" : pass.id(), width, height, scene.configuration(), g -> compose(scene, g), this::repaint);
     }
 
     /**
@@ -41,6 +201,7 @@ public class SwingImageDisplay extends JPanel implements ImageDisplay {
     public void reset() {
         previousImageListener = OnClickListener.None;
         nextImageListener = OnClickListener.None;
+        slideshowListener = OnClickListener.None;
         show(Picture.None);
     }
 
@@ -66,24 +227,181 @@ public class SwingImageDisplay extends JPanel implements ImageDisplay {
     }
 
     /**
-     * Paints the current image on the panel.
+     * Sets the listener for the slideshow button.
+     *
+     * @param listener the {@link OnClickListener} to be called when the slideshow button is clicked
+     */
+    @Override
+    public void setSlideshowButtonListener(OnClickListener listener) {
+        slideshowListener = listener;
+    }
+
+    /**
+     * Paints the current image on the panel by blitting the latest completed frame. A new frame is
+     * requested when the latest one does not match the size of the panel.
      *
      * @param g the {@link Graphics} object used to draw the image
      */
     @Override
     public void paint(Graphics g) {
-        g.fillRect(0,0, getWidth(), getHeight());
-        draw(currentImage.content(), g);
+        long start = System.nanoTime();
+        Dimension frame = frames.blit(g);
+        if (frame.width != getWidth() || frame.height != getHeight()) {
+            g.fillRect(frame.width, 0, getWidth() - frame.width, getHeight());
+            g.fillRect(0, frame.height, frame.width, getHeight() - frame.height);
+            render();
+        }
+        if (firstPixelPending && frames.frameId().equals(currentImage.id())) {
+            Metrics.global().firstPixel().recordSince(shownAt);
+            StartupTimeline.global().mark(StartupTimeline.FIRST_IMAGE_PAINTED);
+            firstPixelPending = false;
+        }
+        if (paintPending && frames.frameId().equals(currentImage.id())) {
+            paintPending = false;
+            paintListener.painted(currentImage, System.nanoTime());
+        }
+        Metrics.global().recordPaint(start, PAINT_BUDGET);
+    }
+
+    /**
+     * Composes a frame of the given scene: the pass is drawn zoomed if the display is zoomed into its
+     * picture, from a rendition if it is the full-quality pass, and stretched with a smooth
+     * interpolation if it is a preview. A failed pass is drawn as it is, since its error message already
+     * has the size of the frame. Passes of the previous picture are drawn until the first pass of the
+     * current picture is ready.
+     *
+     * @param scene the {@link Scene} to be drawn
+     * @param g     the {@link Graphics} object of the frame
+     */
+    private void compose(Scene scene, Graphics g) {
+        ProgressiveDecoder.Pass pass = scene.pass();
+        if (pass == null) return;
+        if (pass.failed()) g.drawImage(pass.image(), 0, 0, null);
+        else if (pass.id().equals(scene.picture().id()) && scene.zoom() != null) drawZoomed(scene, g);
+        else if (pass.complete()) draw(scene, g);
+        else drawPreview(scene, g);
+    }
+
+    /**
+     * Draws the picture of the given scene zoomed: the display-sized pass is stretched over the
+     * visible area and the decoded tiles are drawn on top of it.
+     *
+     * @param scene the zoomed {@link Scene} to be drawn
+     * @param g     the {@link Graphics} object used to draw the image
+     */
+    private void drawZoomed(Scene scene, Graphics g) {
+        ViewPort viewPort = scene.zoom().resize(scene.width(), scene.height());
+        Rectangle bounds = viewPort.toViewPort(new Rectangle(scene.zoomedSize()));
+        drawFast(scene.pass().image(), new ViewPort(bounds.x, bounds.y, bounds.width, bounds.height), g);
+        tiles.draw(scene.picture(), scene.zoomedSize(), viewPort, g, this::render);
+    }
+
+    /**
+     * Installs the mouse listeners that zoom and pan the displayed image.
+     */
+    private void installZoomControls() {
+        MouseAdapter controls = new MouseAdapter() {
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent event) {
+                zoomBy(Math.pow(ZOOM_STEP, -event.getPreciseWheelRotation()), event.getPoint());
+            }
+
+            @Override
+            public void mousePressed(MouseEvent event) {
+                dragStart = event.getPoint();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent event) {
+                if (zoom == null || dragStart == null) return;
+                zoom = zoom.pan(event.getX() - dragStart.x, event.getY() - dragStart.y);
+                dragStart = event.getPoint();
+                render();
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent event) {
+                if (event.getClickCount() < 2) return;
+                zoom = null;
+                render();
+            }
+        };
+        addMouseWheelListener(controls);
+        addMouseListener(controls);
+        addMouseMotionListener(controls);
+    }
+
+    /**
+     * Multiplies the zoom scale by the given factor around the given anchor. Zooming out below the
+     * fit-to-window scale returns to fit-to-window.
+     *
+     * @param factor the factor applied to the scale
+     * @param anchor the point of the panel that stays in place
+     */
+    private void zoomBy(double factor, Point anchor) {
+        if (currentImage == Picture.None) return;
+        if (zoom == null) {
+            zoomedSize = currentImage.dimensions();
+            if (zoomedSize.width <= 0 || zoomedSize.height <= 0) return;
+            zoom = ViewPort.ofSize(getWidth(), getHeight()).fitZoom(zoomedSize.width, zoomedSize.height);
+        }
+        double fitScale = ViewPort.ofSize(getWidth(), getHeight()).fitZoom(zoomedSize.width, zoomedSize.height).scale();
+        double scale = Math.min(zoom.scale() * factor, MAXIMUM_SCALE);
+        zoom = scale <= fitScale ? null : zoom.resize(getWidth(), getHeight()).zoom(scale, anchor.x, anchor.y);
+        render();
     }
 
     /**
-     * Draws the given image on the panel using a suitable viewport.
+     * Draws the full-quality pass of the given scene using a suitable viewport. The cached rendition
+     * for the viewport is blitted if it exists; otherwise the image is scaled on the fly with a fast
+     * interpolation and a high-quality rendition is requested in the background.
      *
-     * @param image the {@link Image} to be drawn
+     * @param scene the {@link Scene} to be drawn
      * @param g     the {@link Graphics} object used to draw the image
      */
-    private void draw(Image image, Graphics g) {
-        ViewPort viewPort = adaptViewportTo(image);
+    private void draw(Scene scene, Graphics g) {
+        String id = scene.pass().id();
+        Image image = scene.pass().image();
+        ViewPort viewPort = adaptViewportTo(image, scene.width(), scene.height());
+        Image rendition = renditions.get(id, viewPort);
+        if (rendition != null) {
+            g.drawImage(rendition, viewPort.x(), viewPort.y(), null);
+            return;
+        }
+        drawFast(image, viewPort, g);
+        renditions.request(id, image, viewPort, scene.configuration(), this::render);
+    }
+
+    /**
+     * Draws the low-resolution preview of the given scene stretched over the viewport the picture is laid out in,
+     * with bilinear interpolation. If the picture was prepared, its rendition is blitted instead.
+     *
+     * @param scene the {@link Scene} whose preview is drawn
+     * @param g     the {@link Graphics} object used to draw the image
+     */
+    private void drawPreview(Scene scene, Graphics g) {
+        Dimension dimensions = scene.pass().dimensions();
+        ViewPort viewPort = ViewPort.ofSize(scene.width(), scene.height()).fit(dimensions.width, dimensions.height);
+        Image rendition = renditions.peek(scene.pass().id(), viewPort);
+        if (rendition != null) {
+            g.drawImage(rendition, viewPort.x(), viewPort.y(), null);
+            return;
+        }
+        if (g instanceof Graphics2D graphics)
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(scene.pass().image(), viewPort.x(), viewPort.y(), viewPort.width(), viewPort.height(), null);
+    }
+
+    /**
+     * Draws the given image scaled into the viewport with nearest-neighbour interpolation.
+     *
+     * @param image    the {@link Image} to be drawn
+     * @param viewPort the {@link ViewPort} the image is drawn into
+     * @param g        the {@link Graphics} object used to draw the image
+     */
+    private void drawFast(Image image, ViewPort viewPort, Graphics g) {
+        if (g instanceof Graphics2D graphics)
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
         g.drawImage(image,
                 viewPort.x(),
                 viewPort.y(),
@@ -95,11 +413,13 @@ public class SwingImageDisplay extends JPanel implements ImageDisplay {
     /**
      * Adapts the viewport to fit the given image dimensions.
      *
-     * @param image the {@link Image} to be fitted
-     * @return the {@link ViewPort} that fits the image within the panel dimensions
+     * @param image  the {@link Image} to be fitted
+     * @param width  the width of the frame
+     * @param height the height of the frame
+     * @return the {@link ViewPort} that fits the image within the frame dimensions
      */
-    private ViewPort adaptViewportTo(Image image) {
-        return ViewPort.ofSize(this.getWidth(), this.getHeight())
+    private ViewPort adaptViewportTo(Image image, int width, int height) {
+        return ViewPort.ofSize(width, height)
                 .fit(image.getWidth(null),
                         image.getHeight(null)
                 );
@@ -124,4 +444,30 @@ public class SwingImageDisplay extends JPanel implements ImageDisplay {
     public OnClickListener nextImageListener() {
         return nextImageListener;
     }
+
+    /**
+     * Returns the listener for the slideshow button.
+     *
+     * @return the {@link OnClickListener} for the slideshow button
+     */
+    @Override
+    public OnClickListener slideshowListener() {
+        return slideshowListener;
+    }
+
+    /**
+     * A snapshot of the state drawn in a frame, taken on the event dispatch thread so that the frame
+     * can be composed on a background thread.
+     *
+     * @param picture       the picture shown by the display
+     * @param pass          the latest decoded pass, or {@code null} if nothing has been decoded yet
+     * @param zoom          the zoomed viewport, or {@code null} when fitting the picture to the frame
+     * @param zoomedSize    the dimensions of the zoomed picture
+     * @param width         the width of the frame
+     * @param height        the height of the frame
+     * @param configuration the {@link GraphicsConfiguration} of the display, or {@code null} if headless
+     */
+    private record Scene(Picture picture, ProgressiveDecoder.Pass pass, ViewPort zoom, Dimension zoomedSize,
+                         int width, int height, GraphicsConfiguration configuration) {
+    }
 }
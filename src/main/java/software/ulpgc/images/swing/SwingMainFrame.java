@@ -9,9 +9,11 @@ import java.awt.*;
  * to display images along with navigation buttons for browsing through images.
  *
  * <p>This class sets up the main frame with a title, layout, and adds an image display component
- * along with navigation buttons (Previous and Next) at the bottom of the frame.</p>
+ * along with navigation buttons (Previous and Next) and a button that starts and stops the slideshow
+ * at the bottom of the frame.</p>
  *
- * <p>The navigation buttons allow the user to move through images using the {@link SwingImageDisplay} component.</p>
+ * <p>The navigation buttons allow the user to move through images using the {@link SwingImageDisplay} component.
+ * When a {@link FilmstripPanel} is given, its thumbnails are shown above the buttons to jump to any image.</p>
  *
  * <p>This frame is intended to be used as part of an image viewer application.</p>
  *
@@ -22,6 +24,7 @@ import java.awt.*;
  */
 public class SwingMainFrame extends JFrame {
     private final SwingImageDisplay imageDisplay;
+    private Component bottomPane;
 
     /**
      * Constructs a new {@code SwingMainFrame} with the specified {@link SwingImageDisplay}.
@@ -30,13 +33,53 @@ public class SwingMainFrame extends JFrame {
      * @throws HeadlessException if the environment does not support a display or keyboard.
      */
     public SwingMainFrame(SwingImageDisplay display) throws HeadlessException {
+        this(display, null);
+    }
+
+    /**
+     * Constructs a new {@code SwingMainFrame} with the specified {@link SwingImageDisplay} and a
+     * {@link FilmstripPanel} of thumbnails above the navigation buttons.
+     *
+     * @param display   the {@link SwingImageDisplay} component to display the images.
+     * @param filmstrip the {@link FilmstripPanel} of thumbnails, or {@code null} to show only the buttons.
+     * @throws HeadlessException if the environment does not support a display or keyboard.
+     */
+    public SwingMainFrame(SwingImageDisplay display, FilmstripPanel filmstrip) throws HeadlessException {
         setTitle("Image Viewer");
         setSize(1000, 800);
         setLayout(new BorderLayout());
         setLocationRelativeTo(null);
         setDefaultCloseOperation(EXIT_ON_CLOSE);
         add(imageDisplay = display, BorderLayout.CENTER);
-        add(createBottomPane(), BorderLayout.SOUTH);
+        add(bottomPane = filmstrip == null ? createBottomPane() : createBottomPane(filmstrip), BorderLayout.SOUTH);
+    }
+
+    /**
+     * Shows the given {@link FilmstripPanel} above the navigation buttons, for a filmstrip created
+     * after the frame, such as one whose thumbnail cache is opened in the background.
+     *
+     * @param filmstrip the {@link FilmstripPanel} of thumbnails.
+     */
+    public void showFilmstrip(FilmstripPanel filmstrip) {
+        remove(bottomPane);
+        add(bottomPane = createBottomPane(filmstrip), BorderLayout.SOUTH);
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Creates the bottom pane with a scrollable filmstrip above the navigation buttons.
+     *
+     * @param filmstrip the {@link FilmstripPanel} of thumbnails
+     * @return a {@link Component} containing the filmstrip and the navigation buttons.
+     */
+    private Component createBottomPane(FilmstripPanel filmstrip) {
+        JScrollPane strip = new JScrollPane(filmstrip, ScrollPaneConstants.VERTICAL_SCROLLBAR_NEVER, ScrollPaneConstants.HORIZONTAL_SCROLLBAR_AS_NEEDED);
+        strip.getHorizontalScrollBar().setUnitIncrement(filmstrip.getPreferredSize().height);
+        JPanel pane = new JPanel(new BorderLayout());
+        pane.add(strip, BorderLayout.CENTER);
+        pane.add(createBottomPane(), BorderLayout.SOUTH);
+        return pane;
     }
 
     /**
@@ -50,8 +93,11 @@ public class SwingMainFrame extends JFrame {
         previous.addActionListener(_ -> imageDisplay.previousImageListener().clickPerformed());
         JButton next = new JButton("Next");
         next.addActionListener(_ -> imageDisplay.nextImageListener().clickPerformed());
+        JButton slideshow = new JButton("Slideshow");
+        slideshow.addActionListener(_ -> imageDisplay.slideshowListener().clickPerformed());
         buttonPane.add(previous);
         buttonPane.add(next);
+        buttonPane.add(slideshow);
         return buttonPane;
     }
 }
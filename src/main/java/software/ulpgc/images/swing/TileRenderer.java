@@ -0,0 +1,196 @@
+package software.ulpgc.images.swing;
+
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.architecture.model.ViewPort;
+import software.ulpgc.images.cache.CacheStats;
+import software.ulpgc.images.cache.DecodedImageCache;
+import software.ulpgc.images.cache.MemoryTier;
+import software.ulpgc.images.metrics.Metrics;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders a zoomed {@link Picture} from square tiles decoded on demand.
+ * <p>
+ * The picture is split into tiles of {@value #TILE_SIZE} decoded pixels at the subsampling level of
+ * the current zoom, so a tile covers more of the picture the further out the view is zoomed. Only
+ * the tiles intersecting the visible region are decoded, on background threads, and kept in a
+ * bounded tile cache. Memory therefore stays proportional to the screen size rather than to the
+ * size of the picture.
+ * </p>
+ * <p>
+ * A tile that fails to decode is logged and counted as a decode failure in the metrics, and is not
+ * requested again while the same picture is drawn, so a broken region is not decoded on every repaint.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class TileRenderer implements AutoCloseable {
+    /**
+     * The width and height of a tile, in decoded pixels.
+     */
+    public static final int TILE_SIZE = 256;
+    /**
+     * The default memory budget of the tile cache, 96 MiB of raster data.
+     */
+    public static final long DEFAULT_BUDGET = 96L * 1024 * 1024;
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final System.Logger LOGGER = System.getLogger(TileRenderer.class.getName());
+
+    private final DecodedImageCache tiles;
+    private final MemoryTier tier;
+    private final ExecutorService executor;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile Set<String> visible = Set.of();
+    private String failedPicture = "";
+
+    /**
+     * Constructs a new {@code TileRenderer} with the {@link #DEFAULT_BUDGET}, decoding on two threads.
+     */
+    public TileRenderer() {
+        this(DEFAULT_BUDGET, 2);
+    }
+
+    /**
+     * Constructs a new {@code TileRenderer}.
+     *
+     * @param budget  the maximum number of raster bytes held by the tile cache
+     * @param threads the number of background decoding threads
+     */
+    public TileRenderer(long budget, int threads) {
+        this.tiles = new DecodedImageCache(budget);
+        this.tier = MemoryTier.of(tiles);
+        this.executor = Executors.newFixedThreadPool(threads, TileRenderer::daemonThread);
+    }
+
+    /**
+     * Draws the tiles of the given picture that are visible in the given viewport. Tiles that have not
+     * been decoded yet are requested in the background and skipped, and the callback is invoked on the
+     * event dispatch thread whenever one of them becomes available.
+     *
+     * @param picture    the picture to draw
+     * @param dimensions the dimensions of the picture
+     * @param viewPort   the zoomed viewport
+     * @param g          the {@link Graphics} object used to draw the tiles
+     * @param onReady    the callback invoked when a requested tile is ready
+     */
+    public void draw(Picture picture, Dimension dimensions, ViewPort viewPort, Graphics g, Runnable onReady) {
+        if (!picture.id().equals(failedPicture)) {
+            failed.clear();
+            failedPicture = picture.id();
+        }
+        List<Tile> tilesInView = tilesInView(picture.id(), dimensions, viewPort);
+        Set<String> keys = new HashSet<>();
+        for (Tile tile : tilesInView) keys.add(tile.key());
+        visible = keys;
+        for (Tile tile : tilesInView) {
+            Image image = tiles.lookup(tile.key());
+            if (image == null && !failed.contains(tile.key())) request(picture, tile, onReady);
+            else drawTile(image, viewPort.toViewPort(tile.region()), g);
+        }
+    }
+
+    /**
+     * Removes every tile, and forgets the tiles that failed to decode.
+     */
+    public void clear() {
+        tiles.clear();
+        failed.clear();
+    }
+
+    /**
+     * Returns a snapshot of the tile cache statistics.
+     *
+     * @return the current {@link CacheStats}
+     */
+    public CacheStats stats() {
+        return tiles.stats();
+    }
+
+    /**
+     * Returns the number of tiles that could not be decoded.
+     *
+     * @return the number of failed tiles
+     */
+    public long failedCount() {
+        return failures.get();
+    }
+
+    /**
+     * Returns the memory tier of the tiles, to be shed under memory pressure.
+     *
+     * @return the {@link MemoryTier} of this renderer
+     */
+    public MemoryTier tier() {
+        return tier;
+    }
+
+    /**
+     * Stops the background threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // Private helper methods for tiling and decoding
+
+    private static List<Tile> tilesInView(String id, Dimension dimensions, ViewPort viewPort) {
+        List<Tile> tiles = new ArrayList<>();
+        Rectangle region = viewPort.visibleRegion(dimensions.width, dimensions.height);
+        if (region.isEmpty()) return tiles;
+        int level = viewPort.subsampling();
+        int span = TILE_SIZE * level;
+        Rectangle bounds = new Rectangle(dimensions);
+        for (int row = region.y / span; row <= (region.y + region.height - 1) / span; row++)
+            for (int column = region.x / span; column <= (region.x + region.width - 1) / span; column++)
+                tiles.add(new Tile(id + "@tile:" + level + ":" + column + ":" + row, level,
+                        new Rectangle(column * span, row * span, span, span).intersection(bounds)));
+        return tiles;
+    }
+
+    private void request(Picture picture, Tile tile, Runnable onReady) {
+        if (!pending.add(tile.key())) return;
+        executor.execute(() -> {
+            try {
+                if (!visible.contains(tile.key())) return;
+                tiles.put(tile.key(), picture.region(tile.region(), tile.level()));
+                SwingUtilities.invokeLater(onReady);
+            } catch (RuntimeException e) {
+                failed.add(tile.key());
+                failures.incrementAndGet();
+                Metrics.global().recordDecodeFailure();
+                LOGGER.log(System.Logger.Level.WARNING, "Could not decode the tile " + tile.key(), e);
+            } finally {
+                pending.remove(tile.key());
+            }
+        });
+    }
+
+    private static void drawTile(Image image, Rectangle target, Graphics g) {
+        g.drawImage(image, target.x, target.y, target.width, target.height, null);
+    }
+
+    private static Thread daemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "tile-decoder-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record Tile(String key, int level, Rectangle region) {
+    }
+}
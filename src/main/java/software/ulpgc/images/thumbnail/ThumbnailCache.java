@@ -0,0 +1,231 @@
+package software.ulpgc.images.thumbnail;
+
+import java.awt.*;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A persistent cache of encoded thumbnails, kept in a single compact file.
+ * <p>
+ * Each thumbnail is appended to the file as a record holding the identifier of its picture, the size
+ * of the box it was fitted in, the dimensions of the picture and the compressed bytes of the
+ * thumbnail, so generating a thumbnail costs
+ * one small sequential write. The whole file is read when the cache is opened, which makes every
+ * thumbnail generated in a previous session available without decoding its picture again. A thumbnail
+ * is only returned for a picture of the dimensions it was generated from, so a picture whose file was
+ * replaced by a different image gets a new thumbnail. Thumbnails of the same picture fitted in boxes of
+ * different sizes are kept apart, so generators of different sizes can share the cache.
+ * </p>
+ * <p>
+ * When the cache holds more than its capacity, the oldest thumbnails are evicted. Records that were
+ * evicted or replaced stay in the file until it is opened again, when it is rewritten without them.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class ThumbnailCache implements AutoCloseable {
+    /**
+     * The default number of thumbnails the cache holds.
+     */
+    public static final int DEFAULT_CAPACITY = 16384;
+    private static final int MAGIC = 0x54484D42;
+    private static final int VERSION = 2;
+    private static final int MAXIMUM_THUMBNAIL_SIZE = 1 << 20;
+
+    private final Path file;
+    private final int capacity;
+    private final Map<Key, Entry> entries = new LinkedHashMap<>();
+    private DataOutputStream output;
+    private int records;
+    private long size;
+
+    private ThumbnailCache(Path file, int capacity) {
+        this.file = file;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Opens the cache in the given file with the {@link #DEFAULT_CAPACITY}, creating it if needed.
+     *
+     * @param file the file holding the thumbnails
+     * @return the opened {@code ThumbnailCache}
+     * @throws IOException if the file cannot be read or written
+     */
+    public static ThumbnailCache open(Path file) throws IOException {
+        return open(file, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens the cache in the given file with the given capacity, creating it if needed.
+     *
+     * @param file     the file holding the thumbnails
+     * @param capacity the maximum number of thumbnails
+     * @return the opened {@code ThumbnailCache}
+     * @throws IOException if the file cannot be read or written
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public static ThumbnailCache open(Path file, int capacity) throws IOException {
+        if (capacity <= 0) throw new IllegalArgumentException("Invalid thumbnail cache capacity: " + capacity);
+        ThumbnailCache cache = new ThumbnailCache(file, capacity);
+        cache.load();
+        return cache;
+    }
+
+    /**
+     * Returns the default file of the cache, inside the user's home directory.
+     *
+     * @return the default thumbnail cache file
+     */
+    public static Path defaultFile() {
+        return Path.of(System.getProperty("user.home"), ".imageviewer", "thumbnails.cache");
+    }
+
+    /**
+     * Returns the encoded thumbnail of the picture with the given identifier and dimensions, fitted in
+     * a box of the given size.
+     *
+     * @param id         the identifier of the picture
+     * @param box        the size of the box the thumbnail is fitted in
+     * @param dimensions the dimensions of the picture
+     * @return the encoded thumbnail, or {@code null} if none was generated for that box from a picture of those dimensions
+     */
+    public synchronized byte[] get(String id, Dimension box, Dimension dimensions) {
+        Entry entry = entries.get(new Key(id, box.width, box.height));
+        if (entry == null || entry.width() != dimensions.width || entry.height() != dimensions.height) return null;
+        return entry.thumbnail();
+    }
+
+    /**
+     * Stores the encoded thumbnail of the picture with the given identifier and dimensions, fitted in a
+     * box of the given size, replacing any previous thumbnail of the picture for that box.
+     *
+     * @param id         the identifier of the picture
+     * @param box        the size of the box the thumbnail is fitted in
+     * @param dimensions the dimensions of the picture
+     * @param thumbnail  the encoded thumbnail
+     * @throws IOException if the thumbnail cannot be written
+     */
+    public synchronized void put(String id, Dimension box, Dimension dimensions, byte[] thumbnail) throws IOException {
+        Key key = new Key(id, box.width, box.height);
+        Entry entry = new Entry(dimensions.width, dimensions.height, thumbnail);
+        writeRecord(output, key, entry);
+        output.flush();
+        records++;
+        add(key, entry);
+    }
+
+    /**
+     * Returns the number of thumbnails in the cache.
+     *
+     * @return the number of thumbnails
+     */
+    public synchronized int count() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of bytes of the encoded thumbnails in the cache.
+     *
+     * @return the size of the thumbnails in bytes
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Closes the file of the cache.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        output.close();
+    }
+
+    // Private helper methods for reading, appending and compacting the cache file
+
+    private void load() throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        boolean complete = read();
+        if (!complete || !Files.exists(file) || records > entries.size() * 2L) write();
+        output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.APPEND)));
+    }
+
+    private boolean read() throws IOException {
+        if (!Files.exists(file)) return true;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) return false;
+            while (true) {
+                String id;
+                try {
+                    id = input.readUTF();
+                } catch (EOFException e) {
+                    return true;
+                }
+                Key key = new Key(id, input.readInt(), input.readInt());
+                int width = input.readInt();
+                int height = input.readInt();
+                int length = input.readInt();
+                if (length < 0 || length > MAXIMUM_THUMBNAIL_SIZE) return false;
+                byte[] thumbnail = input.readNBytes(length);
+                if (thumbnail.length < length) return false;
+                add(key, new Entry(width, height, thumbnail));
+                records++;
+            }
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    private void write() throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream target = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            target.writeInt(MAGIC);
+            target.writeInt(VERSION);
+            for (Map.Entry<Key, Entry> entry : entries.entrySet()) writeRecord(target, entry.getKey(), entry.getValue());
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        records = entries.size();
+    }
+
+    private void add(Key key, Entry entry) {
+        Entry previous = entries.remove(key);
+        if (previous != null) size -= previous.thumbnail().length;
+        entries.put(key, entry);
+        size += entry.thumbnail().length;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > capacity) {
+            size -= iterator.next().thumbnail().length;
+            iterator.remove();
+        }
+    }
+
+    private static void writeRecord(DataOutputStream output, Key key, Entry entry) throws IOException {
+        output.writeUTF(key.id());
+        output.writeInt(key.boxWidth());
+        output.writeInt(key.boxHeight());
+        output.writeInt(entry.width());
+        output.writeInt(entry.height());
+        output.writeInt(entry.thumbnail().length);
+        output.write(entry.thumbnail());
+    }
+
+    private record Key(String id, int boxWidth, int boxHeight) {
+    }
+
+    private record Entry(int width, int height, byte[] thumbnail) {
+    }
+}
@@ -0,0 +1,277 @@
+package software.ulpgc.images.thumbnail;
+
+import software.ulpgc.images.architecture.model.Picture;
+import software.ulpgc.images.architecture.model.ViewPort;
+import software.ulpgc.images.decode.DisplayFormat;
+import software.ulpgc.images.decode.ImageDeserializer;
+import software.ulpgc.images.metrics.Metrics;
+import software.ulpgc.images.resample.Resampler;
+import software.ulpgc.images.resample.ResamplingFilter;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates the thumbnails of pictures in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * A batch of pictures is split in halves until each task holds a few pictures, and every picture is
+ * then turned into a thumbnail on its own worker. A thumbnail is read from the {@link ThumbnailCache}
+ * when it was generated before. Otherwise the picture is decoded with the largest source subsampling
+ * that still covers the thumbnail, so only a fraction of its pixels are read, scaled down to the
+ * thumbnail with a box filter and stored in the cache for the next session. The most recently used
+ * thumbnails are also kept decoded in memory, in the layout of the display, so painting them is a
+ * plain blit. A picture whose thumbnail fails or comes out empty is remembered as unavailable, so it
+ * is tried once rather than on every request.
+ * </p>
+ *
+ * @author      Vít Mikula
+ * @version     1.1, 18/10/2026
+ * @since       1.1
+ */
+public class ThumbnailGenerator {
+    /**
+     * The default width of the thumbnails.
+     */
+    public static final int DEFAULT_WIDTH = 128;
+    /**
+     * The default height of the thumbnails.
+     */
+    public static final int DEFAULT_HEIGHT = 96;
+    private static final int SEQUENTIAL_THRESHOLD = 2;
+    private static final int DECODED_CAPACITY = 512;
+    private static final System.Logger LOGGER = System.getLogger(ThumbnailGenerator.class.getName());
+
+    private final ThumbnailCache cache;
+    private final int width;
+    private final int height;
+    private final ForkJoinPool pool;
+    private final Resampler resampler = new Resampler(ResamplingFilter.BOX);
+    private final Map<String, BufferedImage> decoded = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> unavailable = Collections.newSetFromMap(new LinkedHashMap<>());
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong loaded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * Constructs a new {@code ThumbnailGenerator} with the default thumbnail size, running on the
+     * common {@link ForkJoinPool}.
+     *
+     * @param cache the {@link ThumbnailCache} the thumbnails are persisted in
+     */
+    public ThumbnailGenerator(ThumbnailCache cache) {
+        this(cache, DEFAULT_WIDTH, DEFAULT_HEIGHT, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new {@code ThumbnailGenerator}.
+     *
+     * @param cache  the {@link ThumbnailCache} the thumbnails are persisted in
+     * @param width  the width of the box the thumbnails are fitted in
+     * @param height the height of the box the thumbnails are fitted in
+     * @param pool   the {@link ForkJoinPool} that generates the thumbnails
+     * @throws IllegalArgumentException if the size is not positive
+     */
+    public ThumbnailGenerator(ThumbnailCache cache, int width, int height, ForkJoinPool pool) {
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("Invalid thumbnail size: " + width + "x" + height);
+        this.cache = cache;
+        this.width = width;
+        this.height = height;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the width of the box the thumbnails are fitted in.
+     *
+     * @return the thumbnail width
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the box the thumbnails are fitted in.
+     *
+     * @return the thumbnail height
+     */
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Returns the thumbnail of the given picture if it is ready in memory, without generating it.
+     *
+     * @param picture the picture
+     * @return the thumbnail, or {@code null} if it has not been generated or loaded yet
+     */
+    public synchronized BufferedImage peek(Picture picture) {
+        return decoded.get(picture.id());
+    }
+
+    /**
+     * Returns whether the thumbnail of the given picture failed or came out empty, so it is not
+     * generated again.
+     *
+     * @param picture the picture
+     * @return {@code true} if the picture has no thumbnail to show
+     */
+    public synchronized boolean isUnavailable(Picture picture) {
+        return unavailable.contains(picture.id());
+    }
+
+    /**
+     * Generates the thumbnails of the given pictures in the background, skipping the ones that are
+     * ready, unavailable or already being generated. The callback is invoked from the pool after each
+     * thumbnail.
+     *
+     * @param pictures the pictures whose thumbnails are needed
+     * @param onUpdate the callback invoked when a thumbnail is ready
+     * @return the {@link ForkJoinTask} generating the thumbnails
+     */
+    public ForkJoinTask<Void> generate(List<Picture> pictures, Runnable onUpdate) {
+        List<Picture> missing = new ArrayList<>(pictures.size());
+        for (Picture picture : pictures)
+            if (picture != Picture.None && peek(picture) == null && !isUnavailable(picture) && pending.add(picture.id()))
+                missing.add(picture);
+        return pool.submit(new ThumbnailTask(missing, onUpdate));
+    }
+
+    /**
+     * Returns the thumbnail of the given picture, reading it from the cache or generating it on the
+     * calling thread.
+     *
+     * @param picture the picture
+     * @return the thumbnail, or {@code null} if the picture has no content
+     * @throws IOException if the thumbnail cannot be decoded or stored
+     */
+    public BufferedImage thumbnailOf(Picture picture) throws IOException {
+        BufferedImage ready = peek(picture);
+        if (ready != null) return ready;
+        Dimension dimensions = picture.dimensions();
+        if (dimensions.width <= 0 || dimensions.height <= 0) return null;
+        BufferedImage thumbnail = read(cache.get(picture.id(), new Dimension(width, height), dimensions));
+        if (thumbnail != null) loaded.incrementAndGet();
+        else if ((thumbnail = create(picture, dimensions)) == null) return null;
+        thumbnail = (BufferedImage) DisplayFormat.global().convert(thumbnail);
+        synchronized (this) {
+            decoded.put(picture.id(), thumbnail);
+            if (decoded.size() > DECODED_CAPACITY) decoded.remove(decoded.keySet().iterator().next());
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Returns the number of thumbnails generated by decoding their pictures.
+     *
+     * @return the number of generated thumbnails
+     */
+    public long generatedCount() {
+        return generated.get();
+    }
+
+    /**
+     * Returns the number of thumbnails read from the {@link ThumbnailCache}.
+     *
+     * @return the number of thumbnails loaded from the cache
+     */
+    public long loadedCount() {
+        return loaded.get();
+    }
+
+    /**
+     * Returns the number of pictures whose thumbnail could not be generated.
+     *
+     * @return the number of failures
+     */
+    public long failedCount() {
+        return failed.get();
+    }
+
+    // Private helper methods for generating thumbnails
+
+    private BufferedImage create(Picture picture, Dimension dimensions) throws IOException {
+        long start = System.nanoTime();
+        int subsampling = ImageDeserializer.subsamplingFor(dimensions.width, dimensions.height, width, height);
+        Image region = picture.region(new Rectangle(dimensions), subsampling);
+        if (region == null) return null;
+        BufferedImage source = bufferedOf(region);
+        BufferedImage thumbnail = resampler.resample(source, ViewPort.ofSize(width, height).fit(source.getWidth(), source.getHeight()));
+        cache.put(picture.id(), new Dimension(width, height), dimensions, encode(thumbnail));
+        Metrics.global().latency("thumbnail").recordSince(start);
+        generated.incrementAndGet();
+        return thumbnail;
+    }
+
+    private void generate(Picture picture, Runnable onUpdate) {
+        try {
+            if (thumbnailOf(picture) != null) onUpdate.run();
+            else markUnavailable(picture);
+        } catch (IOException | RuntimeException e) {
+            failed.incrementAndGet();
+            markUnavailable(picture);
+            LOGGER.log(System.Logger.Level.WARNING, "Could not generate the thumbnail of " + picture.id(), e);
+        } finally {
+            pending.remove(picture.id());
+        }
+    }
+
+    private synchronized void markUnavailable(Picture picture) {
+        unavailable.add(picture.id());
+        if (unavailable.size() > DECODED_CAPACITY) unavailable.remove(unavailable.iterator().next());
+    }
+
+    private static BufferedImage bufferedOf(Image image) {
+        if (image instanceof BufferedImage buffered) return buffered;
+        BufferedImage result = new BufferedImage(image.getWidth(null), image.getHeight(null), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = result.createGraphics();
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return result;
+    }
+
+    private static byte[] encode(BufferedImage thumbnail) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (!ImageIO.write(thumbnail, thumbnail.getColorModel().hasAlpha() ? "png" : "jpg", output))
+            throw new IOException("No image writer found for the thumbnail");
+        return output.toByteArray();
+    }
+
+    private static BufferedImage read(byte[] thumbnail) throws IOException {
+        return thumbnail == null ? null : ImageIO.read(new ByteArrayInputStream(thumbnail));
+    }
+
+    private final class ThumbnailTask extends RecursiveAction {
+        private final List<Picture> pictures;
+        private final Runnable onUpdate;
+
+        private ThumbnailTask(List<Picture> pictures, Runnable onUpdate) {
+            this.pictures = pictures;
+            this.onUpdate = onUpdate;
+        }
+
+        @Override
+        protected void compute() {
+            if (pictures.size() <= SEQUENTIAL_THRESHOLD) {
+                for (Picture picture : pictures) generate(picture, onUpdate);
+                return;
+            }
+            invokeAll(new ThumbnailTask(pictures.subList(0, pictures.size() / 2), onUpdate),
+                    new ThumbnailTask(pictures.subList(pictures.size() / 2, pictures.size()), onUpdate));
+        }
+    }
+}